@@ -2,6 +2,7 @@ package com.github.codert96.excel.annotations;
 
 
 import com.github.codert96.excel.config.ExcelChecker;
+import com.github.codert96.excel.read.ExcelRowReader;
 
 import java.lang.annotation.*;
 
@@ -26,8 +27,30 @@ public @interface RequestExcel {
 
     boolean validate() default false;
 
+    /**
+     * &#x7ED1;&#x5B9A; Stream / Iterator / ExcelRowReader &#x65F6;&#x9519;&#x8BEF;&#x5728;&#x8BFB;&#x53D6;&#x7ED3;&#x675F;&#x540E;&#x624D;&#x629B;&#x51FA;&#xFF0C;&#x6B64;&#x65F6;&#xFF08;&#x6216; maxErrors &gt; 0 &#x65F6;&#xFF09;&#x6821;&#x9A8C;&#x5931;&#x8D25;&#x7684;&#x884C;&#x4E0D;&#x4F1A;&#x4EA4;&#x4ED8;
+     */
     boolean validateThrow() default false;
 
+    /**
+     * &#x5728;&#x7EBF;&#x7A0B;&#x6C60;&#x4E0A;&#x5206;&#x5757;&#x5E76;&#x884C;&#x6821;&#x9A8C;&#xFF0C;&#x9519;&#x8BEF;&#x4ECD;&#x6309;&#x884C;&#x987A;&#x5E8F;&#x8BB0;&#x5F55;
+     */
+    boolean parallelValidate() default false;
+
+    /**
+     * &#x5927;&#x4E8E; 0 &#x65F6;&#xFF0C;&#x9519;&#x8BEF;&#x6570;&#x8FBE;&#x5230;&#x8FD9;&#x4E2A;&#x503C;&#x7ACB;&#x5373;&#x505C;&#x6B62;&#x8BFB;&#x53D6;&#x5E76;&#x629B;&#x51FA; ExcelNotValidException
+     */
+    int maxErrors() default -1;
+
     Class<? extends ExcelChecker>[] checker() default {};
 
+    int batchSize() default ExcelRowReader.DEFAULT_BATCH_SIZE;
+
+    int queueCapacity() default ExcelRowReader.DEFAULT_QUEUE_CAPACITY;
+
+    /**
+     * sheetIndex &lt; 0 &#x4E14; sheetName &#x4E3A;&#x7A7A;&#x65F6;&#xFF0C;&#x6BCF;&#x4E2A; sheet &#x5728;&#x72EC;&#x7ACB;&#x7684;&#x7EBF;&#x7A0B;&#x4E0A;&#x89E3;&#x6790;&#xFF0C;&#x7ED3;&#x679C;&#x6309; sheet &#x987A;&#x5E8F;&#x5408;&#x5E76;&#xFF1B;&#x53EA;&#x5BF9; List &#x53C2;&#x6570;&#x751F;&#x6548;
+     */
+    boolean parallel() default false;
+
 }
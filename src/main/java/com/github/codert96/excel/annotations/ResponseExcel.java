@@ -27,7 +27,7 @@ public @interface ResponseExcel {
     Class<?> headClass() default Void.class;
 
     /**
-     * @return java.io.InputStream
+     * @return java.io.InputStream / byte[] / java.io.File / java.nio.file.Path / org.springframework.core.io.Resource
      */
     String templateSpEL() default "";
 
@@ -35,6 +35,31 @@ public @interface ResponseExcel {
 
     Class<? extends WriteHandler>[] writeHandler() default {};
 
+    /**
+     * Stream / Iterator / ExcelPageSupplier &#x6BCF;&#x6B21;&#x5199;&#x51FA;&#x7684;&#x884C;&#x6570;
+     */
+    int batchSize() default 1000;
+
+    /**
+     * &#x76F4;&#x63A5;&#x5199;&#x5165;&#x54CD;&#x5E94;&#x6D41;&#xFF0C;&#x4E0D;&#x7ECF;&#x8FC7;&#x4E34;&#x65F6;&#x6587;&#x4EF6;&#xFF0C;&#x4E0D;&#x8FD4;&#x56DE; Content-Length
+     */
+    boolean direct() default false;
+
+    /**
+     * &#x5728;&#x72EC;&#x7ACB;&#x7684;&#x5BFC;&#x51FA;&#x7EBF;&#x7A0B;&#x6C60;&#x4E2D;&#x751F;&#x6210;&#xFF0C;&#x91CA;&#x653E;&#x5BB9;&#x5668;&#x7EBF;&#x7A0B;&#xFF1B;&#x8FD4;&#x56DE; CompletableFuture / DeferredResult &#x7B49;&#x5F02;&#x6B65;&#x7ED3;&#x679C;&#x65F6;&#x603B;&#x662F;&#x5982;&#x6B64;
+     */
+    boolean deferred() default false;
+
+    /**
+     * &#x4F5C;&#x4E3A;&#x540E;&#x53F0;&#x4EFB;&#x52A1;&#x751F;&#x6210;&#xFF0C;&#x7ACB;&#x5373;&#x8FD4;&#x56DE; 202 &#x548C;&#x4EFB;&#x52A1; id&#xFF0C;&#x901A;&#x8FC7; easyexcel.job.path &#x67E5;&#x8BE2;&#x8FDB;&#x5EA6;&#x548C;&#x4E0B;&#x8F7D;
+     */
+    boolean async() default false;
+
+    /**
+     * &#x7F13;&#x5B58;&#x751F;&#x6210;&#x7684;&#x6587;&#x4EF6;&#x5E76;&#x8FD4;&#x56DE; ETag&#xFF0C;&#x76F8;&#x540C;&#x6570;&#x636E;&#x518D;&#x6B21;&#x4E0B;&#x8F7D;&#x76F4;&#x63A5;&#x4F7F;&#x7528;&#x7F13;&#x5B58;&#xFF0C;If-None-Match &#x5339;&#x914D;&#x65F6;&#x8FD4;&#x56DE; 304&#xFF1B;&#x53EA;&#x5BF9;&#x8FD4;&#x56DE; List &#x7684;&#x65B9;&#x6CD5;&#x751F;&#x6548;
+     */
+    boolean cache() default false;
+
     @Documented
     @Retention(RetentionPolicy.RUNTIME)
     @Target({})
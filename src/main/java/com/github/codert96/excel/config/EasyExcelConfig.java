@@ -3,14 +3,23 @@ package com.github.codert96.excel.config;
 import com.alibaba.excel.converters.Converter;
 import com.github.codert96.excel.converters.ExcelSpELConverter;
 import com.github.codert96.excel.handler.ExcelRequestResponseResolverHandler;
+import com.github.codert96.excel.job.ExcelJobController;
+import com.github.codert96.excel.job.ExcelJobStore;
+import com.github.codert96.excel.job.InMemoryExcelJobStore;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
 import org.springframework.validation.SmartValidator;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 import org.springframework.web.servlet.mvc.method.annotation.RequestResponseBodyMethodProcessor;
 
 import java.util.ArrayList;
@@ -20,14 +29,28 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 @Configuration(proxyBeanMethods = false)
-public class EasyExcelConfig implements ApplicationContextAware, InitializingBean {
+@EnableConfigurationProperties(EasyExcelProperties.class)
+public class EasyExcelConfig implements ApplicationContextAware, InitializingBean, DisposableBean {
     private static final List<Class<? extends Converter<?>>> CONVERTER_LIST = new ArrayList<>();
     private ApplicationContext applicationContext;
+    private ExcelRequestResponseResolverHandler excelRequestResolverHandler;
 
     public static void register(Class<? extends Converter<?>> converter) {
         CONVERTER_LIST.add(converter);
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    public static ExcelJobStore excelJobStore() {
+        return new InMemoryExcelJobStore();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "easyexcel.job", name = "endpoint", havingValue = "true")
+    public static ExcelJobController excelJobController(ExcelJobStore excelJobStore) {
+        return new ExcelJobController(excelJobStore);
+    }
+
     @Override
     public void setApplicationContext(@NonNull ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
@@ -48,12 +71,23 @@ public class EasyExcelConfig implements ApplicationContextAware, InitializingBea
     public void afterPropertiesSet() {
         EasyExcelConfig.register(ExcelSpELConverter.class);
         SmartValidator smartValidator = applicationContext.getBean(SmartValidator.class);
+        EasyExcelProperties properties = applicationContext.getBean(EasyExcelProperties.class);
 
-        ExcelRequestResponseResolverHandler excelRequestResolverHandler = new ExcelRequestResponseResolverHandler(applicationContext, CONVERTER_LIST, smartValidator);
+        excelRequestResolverHandler = new ExcelRequestResponseResolverHandler(applicationContext, CONVERTER_LIST, smartValidator, properties);
 
         RequestMappingHandlerAdapter requestMappingHandlerAdapter = applicationContext.getBean(RequestMappingHandlerAdapter.class);
 
         set(requestMappingHandlerAdapter::getArgumentResolvers, excelRequestResolverHandler, requestMappingHandlerAdapter::setArgumentResolvers);
         set(requestMappingHandlerAdapter::getReturnValueHandlers, excelRequestResolverHandler, requestMappingHandlerAdapter::setReturnValueHandlers);
+
+        applicationContext.getBeanProvider(RequestMappingHandlerMapping.class)
+                .forEach(handlerMapping -> excelRequestResolverHandler.warmUp(handlerMapping.getHandlerMethods().values()));
+    }
+
+    @Override
+    public void destroy() {
+        if (excelRequestResolverHandler != null) {
+            excelRequestResolverHandler.destroy();
+        }
     }
 }
@@ -0,0 +1,212 @@
+package com.github.codert96.excel.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.util.unit.DataSize;
+
+import java.io.File;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "easyexcel")
+public class EasyExcelProperties {
+
+    private Write write = new Write();
+
+    private Spel spel = new Spel();
+
+    private Template template = new Template();
+
+    private Executor executor = new Executor();
+
+    private Validate validate = new Validate();
+
+    private Storage storage = new Storage();
+
+    private Async async = new Async();
+
+    private Job job = new Job();
+
+    private ParseCache parseCache = new ParseCache();
+
+    private ExportCache exportCache = new ExportCache();
+
+    @Data
+    public static class Write {
+        /**
+         * &#x6240;&#x6709; @ResponseExcel &#x76F4;&#x63A5;&#x5199;&#x5165;&#x54CD;&#x5E94;&#x6D41;
+         */
+        private boolean direct = false;
+
+        /**
+         * &#x5BB9;&#x5668;&#x652F;&#x6301;&#x65F6;&#x4F7F;&#x7528; Tomcat sendfile &#x53D1;&#x9001;&#x4E34;&#x65F6;&#x6587;&#x4EF6;
+         */
+        private boolean sendfile = true;
+
+        /**
+         * sendfile &#x7684;&#x4E34;&#x65F6;&#x6587;&#x4EF6;&#x5728;&#x8BF7;&#x6C42;&#x7ED3;&#x675F;&#x540E;&#x4FDD;&#x7559;&#x7684;&#x65F6;&#x95F4;
+         */
+        private Duration sendfileRetention = Duration.ofMinutes(1);
+
+        /**
+         * &#x6240;&#x6709; @ResponseExcel &#x90FD;&#x5728;&#x5BFC;&#x51FA;&#x7EBF;&#x7A0B;&#x6C60;&#x4E2D;&#x751F;&#x6210;
+         */
+        private boolean deferred = false;
+    }
+
+    @Data
+    public static class Async {
+        /**
+         * &#x540C;&#x65F6;&#x751F;&#x6210;&#x7684;&#x5BFC;&#x51FA;&#x6570;
+         */
+        private int poolSize = Math.max(Runtime.getRuntime().availableProcessors() / 2, 1);
+
+        /**
+         * &#x7B49;&#x5F85;&#x751F;&#x6210;&#x7684;&#x5BFC;&#x51FA;&#x6570;&#xFF0C;&#x8D85;&#x8FC7;&#x540E;&#x62D2;&#x7EDD;
+         */
+        private int queueCapacity = 64;
+
+        private Duration timeout = Duration.ofMinutes(10);
+    }
+
+    @Data
+    public static class Job {
+        /**
+         * &#x6CE8;&#x518C;&#x67E5;&#x8BE2;&#x8FDB;&#x5EA6;&#x548C;&#x4E0B;&#x8F7D;&#x6587;&#x4EF6;&#x7684;&#x63A5;&#x53E3;
+         */
+        private boolean endpoint = false;
+
+        private String path = "/excel/jobs";
+
+        /**
+         * &#x4EFB;&#x52A1;&#x7ED3;&#x675F;&#x540E;&#x4FDD;&#x7559;&#x7ED3;&#x679C;&#x6587;&#x4EF6;&#x7684;&#x65F6;&#x95F4;
+         */
+        private Duration retention = Duration.ofHours(1);
+    }
+
+    @Data
+    public static class ParseCache {
+        /**
+         * &#x76F8;&#x540C;&#x5185;&#x5BB9;&#x7684;&#x4E0A;&#x4F20;&#x76F4;&#x63A5;&#x4F7F;&#x7528;&#x4E0A;&#x6B21;&#x7684;&#x89E3;&#x6790;&#x7ED3;&#x679C;&#xFF0C;&#x53EA;&#x5BF9; List &#x53C2;&#x6570;&#x751F;&#x6548;&#xFF0C;&#x8868;&#x5934;&#x7C7B;&#x9700;&#x8981;&#x5B9E;&#x73B0; Serializable
+         */
+        private boolean enabled = false;
+
+        private int maxEntries = 256;
+
+        /**
+         * &#x5185;&#x5B58;&#x4E2D;&#x7F13;&#x5B58;&#x7684;&#x603B;&#x5927;&#x5C0F;&#xFF0C;&#x8D85;&#x8FC7;&#x540E;&#x6700;&#x4E45;&#x672A;&#x4F7F;&#x7528;&#x7684;&#x7ED3;&#x679C;&#x79FB;&#x5230;&#x78C1;&#x76D8;
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(64);
+
+        /**
+         * &#x78C1;&#x76D8;&#x4E0A;&#x7F13;&#x5B58;&#x7684;&#x603B;&#x5927;&#x5C0F;&#xFF0C;0 &#x4E0D;&#x4F7F;&#x7528;&#x78C1;&#x76D8;
+         */
+        private DataSize diskMaxSize = DataSize.ofMegabytes(512);
+
+        private Duration ttl = Duration.ofMinutes(30);
+    }
+
+    @Data
+    public static class ExportCache {
+        private int maxEntries = 64;
+
+        /**
+         * &#x6240;&#x6709;&#x7F13;&#x5B58;&#x6587;&#x4EF6;&#x7684;&#x603B;&#x5927;&#x5C0F;
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(64);
+
+        /**
+         * &#x5927;&#x4E8E;&#x8FD9;&#x4E2A;&#x5927;&#x5C0F;&#x7684;&#x5BFC;&#x51FA;&#x4E0D;&#x7F13;&#x5B58;
+         */
+        private DataSize maxEntrySize = DataSize.ofMegabytes(8);
+
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+
+    @Data
+    public static class Spel {
+        /**
+         * &#x5F00;&#x542F;&#x540E; @ExcelSpEL &#x8868;&#x8FBE;&#x5F0F;&#x4F1A;&#x88AB;&#x7F16;&#x8BD1;&#x6210;&#x5B57;&#x8282;&#x7801;
+         */
+        private SpelCompilerMode compilerMode = SpelCompilerMode.OFF;
+    }
+
+    @Data
+    public static class Executor {
+        /**
+         * &#x5E76;&#x884C;&#x89E3;&#x6790;&#x3001;&#x6821;&#x9A8C;&#x540C;&#x65F6;&#x8FD0;&#x884C;&#x7684;&#x6700;&#x5927;&#x4EFB;&#x52A1;&#x6570;
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * &#x7B49;&#x5F85;&#x6267;&#x884C;&#x7684;&#x89E3;&#x6790;&#x3001;&#x6821;&#x9A8C;&#x4EFB;&#x52A1;&#x6570;&#xFF0C;&#x961F;&#x5217;&#x6EE1;&#x65F6;&#x5728;&#x63D0;&#x4EA4;&#x4EFB;&#x52A1;&#x7684;&#x7EBF;&#x7A0B;&#x4E0A;&#x8FD0;&#x884C;&#xFF1B;&#x6392;&#x961F;&#x7684;&#x9010;&#x884C;&#x8BFB;&#x53D6;&#x4E5F;&#x4E0D;&#x8D85;&#x8FC7;&#x8FD9;&#x4E2A;&#x6570;&#xFF0C;&#x8D85;&#x8FC7;&#x65F6;&#x62D2;&#x7EDD;
+         */
+        private int queueCapacity = 256;
+
+        /**
+         * &#x8FD0;&#x884C;&#x73AF;&#x5883;&#x652F;&#x6301;&#x65F6;&#x4F7F;&#x7528;&#x865A;&#x62DF;&#x7EBF;&#x7A0B;
+         */
+        private boolean virtualThreads = false;
+    }
+
+    @Data
+    public static class Validate {
+        /**
+         * validateThrow &#x65F6;&#x9519;&#x8BEF;&#x6570;&#x8FBE;&#x5230;&#x8FD9;&#x4E2A;&#x503C;&#x5C31;&#x505C;&#x6B62;&#x6821;&#x9A8C;
+         */
+        private int maxErrors = Integer.MAX_VALUE;
+    }
+
+    @Data
+    public static class Template {
+        private boolean cacheEnabled = true;
+
+        private int maxEntries = 64;
+
+        /**
+         * &#x6240;&#x6709;&#x7F13;&#x5B58;&#x6A21;&#x677F;&#x7684;&#x603B;&#x5927;&#x5C0F;
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(64);
+
+        /**
+         * &#x5927;&#x4E8E;&#x8FD9;&#x4E2A;&#x5927;&#x5C0F;&#x7684;&#x6A21;&#x677F;&#x4E0D;&#x7F13;&#x5B58;
+         */
+        private DataSize maxTemplateSize = DataSize.ofMegabytes(8);
+    }
+
+    @Data
+    public static class Storage {
+        /**
+         * &#x4E34;&#x65F6;&#x6587;&#x4EF6;&#x76EE;&#x5F55;
+         */
+        private File directory = new File(System.getProperty("java.io.tmpdir"), "easyexcel");
+
+        /**
+         * &#x4E34;&#x65F6;&#x6587;&#x4EF6;&#x5360;&#x7528;&#x7684;&#x603B;&#x5927;&#x5C0F;&#x4E0A;&#x9650;&#xFF0C;&#x8D1F;&#x6570;&#x4E0D;&#x9650;&#x5236;
+         */
+        private DataSize maxSize = DataSize.ofBytes(-1);
+
+        /**
+         * &#x8D85;&#x8FC7;&#x4E0A;&#x9650;&#x65F6;&#x7B49;&#x5F85;&#x5176;&#x4ED6;&#x8BF7;&#x6C42;&#x91CA;&#x653E;&#x7A7A;&#x95F4;&#x7684;&#x65F6;&#x95F4;&#xFF0C;&#x8D85;&#x65F6;&#x540E;&#x62D2;&#x7EDD;
+         */
+        private Duration quotaWait = Duration.ofSeconds(10);
+
+        /**
+         * &#x8D85;&#x8FC7;&#x8FD9;&#x4E2A;&#x65F6;&#x95F4;&#x7684;&#x4E34;&#x65F6;&#x6587;&#x4EF6;&#x4F1A;&#x88AB;&#x540E;&#x53F0;&#x6E05;&#x7406;
+         */
+        private Duration maxAge = Duration.ofHours(1);
+
+        private Duration sweepInterval = Duration.ofMinutes(5);
+
+        /**
+         * &#x5C0F;&#x4E8E;&#x8FD9;&#x4E2A;&#x5927;&#x5C0F;&#x7684;&#x4E0A;&#x4F20;&#x548C;&#x5BFC;&#x51FA;&#x53EA;&#x4FDD;&#x5B58;&#x5728;&#x5185;&#x5B58;&#x4E2D;&#xFF0C;&#x4E0D;&#x521B;&#x5EFA;&#x4E34;&#x65F6;&#x6587;&#x4EF6;
+         */
+        private DataSize memoryThreshold = DataSize.ofMegabytes(4);
+
+        /**
+         * &#x5185;&#x5B58;&#x7F13;&#x51B2;&#x533A;&#x6C60;&#x4FDD;&#x7559;&#x7684;&#x6700;&#x5927;&#x5B57;&#x8282;&#x6570;
+         */
+        private DataSize poolSize = DataSize.ofMegabytes(64);
+    }
+}
@@ -7,42 +7,75 @@ import com.alibaba.excel.metadata.data.WriteCellData;
 import com.alibaba.excel.metadata.property.ExcelContentProperty;
 import com.github.codert96.excel.annotations.ExcelSpEL;
 import com.github.codert96.excel.annotations.ExcelSpEL.Variables;
+import com.github.codert96.excel.config.EasyExcelProperties;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.NonNull;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 public class ExcelSpELConverter extends StringStringConverter implements ApplicationContextAware {
-    private final SpelExpressionParser expressionParser = new SpelExpressionParser(new SpelParserConfiguration(true, true));
-    private ApplicationContext applicationContext;
+    // 有实例字段，每个请求使用新的实例，解析后的表达式按字段共用；软引用不阻止热部署后旧的类被卸载
+    private static final Map<Field, Optional<ExcelSpEL>> ANNOTATIONS = new ConcurrentReferenceHashMap<>();
+    private static final Map<Field, Expression> DESERIALIZE_EXPRESSIONS = new ConcurrentReferenceHashMap<>();
+    private static final Map<Field, Expression> SERIALIZE_EXPRESSIONS = new ConcurrentReferenceHashMap<>();
+    private SpelExpressionParser expressionParser = new SpelExpressionParser(new SpelParserConfiguration(true, true));
+    private BeanFactoryResolver beanResolver;
+    // 并行解析时多个线程使用同一个实例，每个线程各自复用一个上下文
+    private final ThreadLocal<CellContext> contexts = ThreadLocal.withInitial(this::createContext);
+
+    private static ExcelSpEL excelSpEL(Field field) {
+        if (Objects.isNull(field)) {
+            return null;
+        }
+        return ANNOTATIONS.computeIfAbsent(field, it -> Optional.ofNullable(it.getAnnotation(ExcelSpEL.class))).orElse(null);
+    }
+
+    private CellContext createContext() {
+        CellContext cellContext = new CellContext();
+        cellContext.setBeanResolver(beanResolver);
+        return cellContext;
+    }
+
+    /**
+     * &#x540C;&#x4E00;&#x7EBF;&#x7A0B;&#x7684;&#x5355;&#x5143;&#x683C;&#x590D;&#x7528;&#x4E0A;&#x4E0B;&#x6587;&#x548C;&#x5176;&#x4E2D;&#x7F13;&#x5B58;&#x7684;&#x5C5E;&#x6027;&#x3001;&#x65B9;&#x6CD5;&#x89E3;&#x6790;&#x7ED3;&#x679C;&#xFF0C;&#x6BCF;&#x6B21;&#x6C42;&#x503C;&#x524D;&#x6E05;&#x7A7A;&#x53D8;&#x91CF;&#xFF0C;&#x8868;&#x8FBE;&#x5F0F;&#x8D4B;&#x503C;&#x7684;&#x53D8;&#x91CF;&#x4E0D;&#x4F1A;&#x6CC4;&#x6F0F;&#x5230;&#x5176;&#x4ED6;&#x5355;&#x5143;&#x683C;&#x6216;&#x8BF7;&#x6C42;
+     */
+    private StandardEvaluationContext context() {
+        CellContext cellContext = contexts.get();
+        cellContext.variables.clear();
+        return cellContext;
+    }
 
     @Override
     public String convertToJavaData(ReadCellData<?> cellData, ExcelContentProperty contentProperty, GlobalConfiguration globalConfiguration) {
         if (Objects.nonNull(contentProperty)) {
             Field field = contentProperty.getField();
-            ExcelSpEL excelSpEL = field.getAnnotation(ExcelSpEL.class);
+            ExcelSpEL excelSpEL = excelSpEL(field);
             if (Objects.nonNull(excelSpEL)) {
                 String stringValue = cellData.getStringValue();
 
-                String deserialize = excelSpEL.deserialize();
-
-                StandardEvaluationContext standardEvaluationContext = new StandardEvaluationContext();
-                standardEvaluationContext.setBeanResolver(new BeanFactoryResolver(applicationContext));
+                Expression expression = DESERIALIZE_EXPRESSIONS.computeIfAbsent(field, it -> expressionParser.parseExpression(excelSpEL.deserialize()));
 
+                StandardEvaluationContext standardEvaluationContext = context();
                 standardEvaluationContext.setVariable(Variables.celldata.name(), cellData.clone());
                 standardEvaluationContext.setVariable(Variables.rowindex.name().toLowerCase(), cellData.getRowIndex() + 1);
                 standardEvaluationContext.setVariable(Variables.cellindex.name().toLowerCase(), cellData.getColumnIndex() + 1);
                 standardEvaluationContext.setVariable(Variables.value.name().toLowerCase(), cellData.getStringValue());
 
-                String value = expressionParser.parseExpression(deserialize).getValue(standardEvaluationContext, String.class);
+                String value = expression.getValue(standardEvaluationContext, String.class);
 
                 return StringUtils.hasText(value) ? value : stringValue;
             }
@@ -55,13 +88,12 @@ public class ExcelSpELConverter extends StringStringConverter implements Applica
     public WriteCellData<?> convertToExcelData(String value, ExcelContentProperty contentProperty, GlobalConfiguration globalConfiguration) {
         if (Objects.nonNull(contentProperty) && Objects.nonNull(contentProperty.getField())) {
             Field field = contentProperty.getField();
-            ExcelSpEL excelSpEL = field.getAnnotation(ExcelSpEL.class);
+            ExcelSpEL excelSpEL = excelSpEL(field);
             if (Objects.nonNull(excelSpEL)) {
-                String deserialize = excelSpEL.serialize();
-                StandardEvaluationContext standardEvaluationContext = new StandardEvaluationContext();
-                standardEvaluationContext.setBeanResolver(new BeanFactoryResolver(applicationContext));
+                Expression expression = SERIALIZE_EXPRESSIONS.computeIfAbsent(field, it -> expressionParser.parseExpression(excelSpEL.serialize()));
+                StandardEvaluationContext standardEvaluationContext = context();
                 standardEvaluationContext.setVariable(Variables.value.name().toLowerCase(), value);
-                String result = expressionParser.parseExpression(deserialize).getValue(standardEvaluationContext, String.class);
+                String result = expression.getValue(standardEvaluationContext, String.class);
                 return new WriteCellData<>(Objects.nonNull(result) ? result : value);
             }
         }
@@ -70,6 +102,34 @@ public class ExcelSpELConverter extends StringStringConverter implements Applica
 
     @Override
     public void setApplicationContext(@NonNull ApplicationContext applicationContext) throws BeansException {
-        this.applicationContext = applicationContext;
+        this.beanResolver = new BeanFactoryResolver(applicationContext);
+        SpelCompilerMode compilerMode = applicationContext.getBeanProvider(EasyExcelProperties.class)
+                .getIfAvailable(EasyExcelProperties::new)
+                .getSpel()
+                .getCompilerMode();
+        this.expressionParser = new SpelExpressionParser(
+                new SpelParserConfiguration(compilerMode, applicationContext.getClassLoader(), true, true, Integer.MAX_VALUE)
+        );
+    }
+
+    /**
+     * &#x53D8;&#x91CF;&#x4FDD;&#x5B58;&#x5728;&#x53EF;&#x4EE5;&#x6E05;&#x7A7A;&#x7684; Map &#x4E2D;&#xFF0C;StandardEvaluationContext &#x672C;&#x8EAB;&#x53EA;&#x80FD;&#x9010;&#x4E2A;&#x79FB;&#x9664;
+     */
+    private static final class CellContext extends StandardEvaluationContext {
+        private final Map<String, Object> variables = new HashMap<>();
+
+        @Override
+        public void setVariable(String name, Object value) {
+            if (Objects.isNull(value)) {
+                variables.remove(name);
+            } else {
+                variables.put(name, value);
+            }
+        }
+
+        @Override
+        public Object lookupVariable(@NonNull String name) {
+            return variables.get(name);
+        }
     }
 }
@@ -1,59 +1,168 @@
 package com.github.codert96.excel.diy;
 
-import lombok.*;
-import lombok.experimental.Accessors;
+import com.alibaba.excel.util.DateUtils;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.Objects;
 import java.util.function.Function;
 
-@Getter
-@ToString
-@Accessors(chain = true)
-@RequiredArgsConstructor
-@EqualsAndHashCode(exclude = "value")
+/**
+ * &#x884C;&#x4E2D;&#x67D0;&#x4E00;&#x5217;&#x7684;&#x89C6;&#x56FE;&#xFF0C;&#x5185;&#x5BB9;&#x4FDD;&#x5B58;&#x5728; Row &#x4E2D;
+ */
 public class Cell implements Comparable<Cell>, Comparator<Cell>, Serializable {
-    private final int sheetIndex;
-    private final String sheetName;
-    private final int rowIndex;
+    private final Row row;
     private final int cellIndex;
-    @Setter
-    private String value;
-    @Setter
-    private String link;
-    @Setter
-    private String comment;
-    @Setter
-    private String formula;
+
+    /**
+     * &#x4E0D;&#x5C5E;&#x4E8E;&#x4EFB;&#x4F55;&#x884C;&#x7684;&#x5355;&#x5143;&#x683C;&#xFF0C;&#x7528; Row.put &#x590D;&#x5236;&#x5230;&#x884C;&#x4E2D;
+     */
+    public Cell(int sheetIndex, String sheetName, int rowIndex, int cellIndex) {
+        this(new Row(sheetIndex, sheetName, rowIndex), cellIndex);
+    }
+
+    Cell(Row row, int cellIndex) {
+        this.row = row;
+        this.cellIndex = cellIndex;
+    }
+
+    /**
+     * &#x4E0D;&#x518D;&#x968F;&#x539F;&#x884C;&#x53D8;&#x5316;&#x7684;&#x526F;&#x672C;
+     */
+    static Cell copyOf(Row row, int cellIndex) {
+        Row copy = new Row(row.getSheetIndex(), row.getSheetName(), row.getRowIndex());
+        copy.put(cellIndex, new Cell(row, cellIndex));
+        return new Cell(copy, cellIndex);
+    }
+
+    public int getSheetIndex() {
+        return row.getSheetIndex();
+    }
+
+    public String getSheetName() {
+        return row.getSheetName();
+    }
+
+    public int getRowIndex() {
+        return row.getRowIndex();
+    }
+
+    public int getCellIndex() {
+        return cellIndex;
+    }
+
+    public String getValue() {
+        return row.value(cellIndex);
+    }
+
+    public Cell setValue(String value) {
+        row.value(cellIndex, value);
+        return this;
+    }
+
+    public String getLink() {
+        return row.link(cellIndex);
+    }
+
+    public Cell setLink(String link) {
+        row.link(cellIndex, link);
+        return this;
+    }
+
+    public String getComment() {
+        return row.comment(cellIndex);
+    }
+
+    public Cell setComment(String comment) {
+        row.comment(cellIndex, comment);
+        return this;
+    }
+
+    public String getFormula() {
+        return row.formula(cellIndex);
+    }
+
+    public Cell setFormula(String formula) {
+        row.formula(cellIndex, formula);
+        return this;
+    }
+
+    byte type() {
+        return row.type(cellIndex);
+    }
 
     public BigDecimal getNumberValue() {
-        return new BigDecimal(value);
+        if (type() != Row.TEXT) {
+            return BigDecimal.valueOf(row.number(cellIndex));
+        }
+        return new BigDecimal(getValue());
     }
 
     public boolean isNumberValue() {
-        if (value == null || value.trim().isEmpty()) {
-            return false;
+        return type() == Row.NUMBER || CellValues.isDecimal(getValue());
+    }
+
+    /**
+     * &#x6570;&#x5B57;&#x5355;&#x5143;&#x683C;&#x6216;&#x53EF;&#x4EE5;&#x89E3;&#x6790;&#x4E3A;&#x6570;&#x5B57;&#x7684;&#x6587;&#x672C;&#xFF08;&#x53EF;&#x5E26;&#x7B26;&#x53F7;&#x3001;&#x5C0F;&#x6570;&#x3001;&#x6307;&#x6570;&#xFF09;
+     */
+    public boolean isNumeric() {
+        return type() != Row.TEXT || CellValues.isNumeric(getValue());
+    }
+
+    /**
+     * &#x6570;&#x5B57;&#x5355;&#x5143;&#x683C;&#x76F4;&#x63A5;&#x8FD4;&#x56DE;&#x539F;&#x503C;&#xFF0C;&#x65E5;&#x671F;&#x5355;&#x5143;&#x683C;&#x8FD4;&#x56DE; Excel &#x65E5;&#x671F;&#x5E8F;&#x53F7;&#xFF0C;&#x6587;&#x672C;&#x4E0D;&#x662F;&#x6570;&#x5B57;&#x65F6;&#x629B; NumberFormatException
+     */
+    public double getDouble() {
+        if (type() != Row.TEXT) {
+            return row.number(cellIndex);
+        }
+        return CellValues.parseDouble(getValue());
+    }
+
+    /**
+     * &#x4E0D;&#x662F;&#x6574;&#x6570;&#x6216;&#x8D85;&#x51FA;&#x8303;&#x56F4;&#x65F6;&#x629B; NumberFormatException
+     */
+    public long getLong() {
+        if (type() != Row.TEXT) {
+            return CellValues.toLong(row.number(cellIndex));
+        }
+        return CellValues.parseLong(getValue());
+    }
+
+    public int getInt() {
+        long value = getLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("超出 int 范围：" + value);
         }
-        return value.matches("\\d+(\\.\\d+)?");
+        return (int) value;
     }
 
     public <T> T getValue(Function<String, T> function) {
-        return function.apply(value);
+        return function.apply(getValue());
     }
 
+    /**
+     * &#x65E5;&#x671F;&#x5355;&#x5143;&#x683C;&#x76F4;&#x63A5;&#x6309;&#x539F;&#x503C;&#x8F6C;&#x6362;&#xFF0C;&#x4E0D;&#x4F7F;&#x7528; patten
+     */
     public Date getDateValue(String patten) throws ParseException {
-        return new SimpleDateFormat(patten).parse(value);
+        if (type() == Row.DATE) {
+            return DateUtils.getJavaDate(row.number(cellIndex), false);
+        }
+        return CellValues.dateFormat(patten).parse(getValue());
     }
 
+    /**
+     * &#x65E5;&#x671F;&#x5355;&#x5143;&#x683C;&#x76F4;&#x63A5;&#x6309;&#x539F;&#x503C;&#x8F6C;&#x6362;&#xFF0C;&#x4E0D;&#x4F7F;&#x7528; patten
+     */
     public LocalDateTime getLocalDateTimeValue(String patten) {
-        return LocalDateTime.from(DateTimeFormatter.ofPattern(patten).parse(value));
+        if (type() == Row.DATE) {
+            return DateUtils.getLocalDateTime(row.number(cellIndex), false);
+        }
+        return LocalDateTime.from(CellValues.formatter(patten).parse(getValue()));
     }
 
     public boolean getBooleanValue() {
@@ -66,12 +175,12 @@ public class Cell implements Comparable<Cell>, Comparator<Cell>, Serializable {
 
     @Override
     public int compareTo(Cell other) {
-        if (!Objects.equals(sheetIndex, other.sheetIndex)) {
-            return Integer.compare(sheetIndex, other.sheetIndex);
+        if (!Objects.equals(getSheetIndex(), other.getSheetIndex())) {
+            return Integer.compare(getSheetIndex(), other.getSheetIndex());
         }
 
-        if (!Objects.equals(rowIndex, other.rowIndex)) {
-            return Integer.compare(rowIndex, other.rowIndex);
+        if (!Objects.equals(getRowIndex(), other.getRowIndex())) {
+            return Integer.compare(getRowIndex(), other.getRowIndex());
         }
         return Integer.compare(cellIndex, other.cellIndex);
     }
@@ -80,4 +189,33 @@ public class Cell implements Comparable<Cell>, Comparator<Cell>, Serializable {
     public int compare(Cell o1, Cell o2) {
         return o1.compareTo(o2);
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Cell other)) {
+            return false;
+        }
+        return getSheetIndex() == other.getSheetIndex()
+                && getRowIndex() == other.getRowIndex()
+                && cellIndex == other.cellIndex
+                && Objects.equals(getSheetName(), other.getSheetName())
+                && Objects.equals(getLink(), other.getLink())
+                && Objects.equals(getComment(), other.getComment())
+                && Objects.equals(getFormula(), other.getFormula());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getSheetIndex(), getSheetName(), getRowIndex(), cellIndex);
+    }
+
+    @Override
+    public String toString() {
+        return "Cell(sheetIndex=" + getSheetIndex() + ", sheetName=" + getSheetName() + ", rowIndex=" + getRowIndex()
+                + ", cellIndex=" + cellIndex + ", value=" + getValue() + ", link=" + getLink()
+                + ", comment=" + getComment() + ", formula=" + getFormula() + ")";
+    }
+}
@@ -0,0 +1,217 @@
+package com.github.codert96.excel.diy;
+
+import java.math.BigDecimal;
+import java.text.SimpleDateFormat;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * &#x5355;&#x5143;&#x683C;&#x6587;&#x672C;&#x7684;&#x6570;&#x5B57;&#x626B;&#x63CF;&#xFF08;&#x4E0D;&#x521B;&#x5EFA;&#x5BF9;&#x8C61;&#xFF09;&#x548C;&#x6309;&#x683C;&#x5F0F;&#x7F13;&#x5B58;&#x7684;&#x65E5;&#x671F;&#x89E3;&#x6790;&#x5668;
+ */
+final class CellValues {
+    private static final int MAX_PATTERNS = 64;
+    private static final int MAX_DIGITS = 18;
+    private static final double[] POWERS = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<String, SimpleDateFormat>> DATE_FORMATS = ThreadLocal.withInitial(HashMap::new);
+
+    private CellValues() {
+    }
+
+    /**
+     * &#x7B49;&#x4EF7;&#x4E8E; text.matches("\\d+(\\.\\d+)?")
+     */
+    static boolean isDecimal(String text) {
+        if (text == null) {
+            return false;
+        }
+        int length = text.length();
+        int i = digits(text, 0, length);
+        if (i == 0) {
+            return false;
+        }
+        if (i == length) {
+            return true;
+        }
+        return text.charAt(i) == '.' && i + 1 < length && digits(text, i + 1, length) == length;
+    }
+
+    private static int digits(String text, int from, int to) {
+        int i = from;
+        while (i < to && text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+            i++;
+        }
+        return i;
+    }
+
+    static boolean isNumeric(String text) {
+        return !Double.isNaN(scan(text));
+    }
+
+    static double parseDouble(String text) {
+        double value = scan(text);
+        if (Double.isNaN(value)) {
+            throw new NumberFormatException("不是数字：" + text);
+        }
+        return value;
+    }
+
+    static long parseLong(String text) {
+        if (text == null) {
+            throw new NumberFormatException("不是数字：null");
+        }
+        int end = text.length();
+        int i = 0;
+        boolean negative = false;
+        if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+        int start = i;
+        long value = 0;
+        // 按负数累加，Long.MIN_VALUE 也不会溢出
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            int digit = c - '0';
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                return toLong(parseDouble(text));
+            }
+            value = value * 10 - digit;
+        }
+        if (i == start || i != end) {
+            return toLong(parseDouble(text));
+        }
+        if (!negative && value == Long.MIN_VALUE) {
+            throw new NumberFormatException("超出 long 范围：" + text);
+        }
+        return negative ? value : -value;
+    }
+
+    static long toLong(double value) {
+        if (value != Math.rint(value) || value < -0x1p63 || value >= 0x1p63) {
+            throw new NumberFormatException("不是整数：" + value);
+        }
+        return (long) value;
+    }
+
+    /**
+     * &#x5C3E;&#x6570;&#x4E0D;&#x8D85;&#x8FC7; 2^53&#x3001;&#x6307;&#x6570;&#x5728; &#xB1;22 &#x4EE5;&#x5185;&#x65F6;&#x4E00;&#x6B21;&#x4E58;&#x9664;&#x5F97;&#x5230;&#x7CBE;&#x786E;&#x7ED3;&#x679C;&#xFF0C;&#x5176;&#x4ED6;&#x60C5;&#x51B5;&#x4EA4;&#x7ED9; Double.parseDouble&#xFF1B;
+     * &#x4E0D;&#x662F;&#x6570;&#x5B57;&#x65F6;&#x8FD4;&#x56DE; NaN
+     */
+    private static double scan(String text) {
+        if (text == null) {
+            return Double.NaN;
+        }
+        int i = 0;
+        int end = text.length();
+        while (i < end && text.charAt(i) <= ' ') {
+            i++;
+        }
+        while (end > i && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int start = i;
+        boolean negative = false;
+        if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean any = false;
+        boolean exact = true;
+        for (; i < end && text.charAt(i) >= '0' && text.charAt(i) <= '9'; i++) {
+            any = true;
+            if (digits < MAX_DIGITS) {
+                mantissa = mantissa * 10 + (text.charAt(i) - '0');
+                digits += mantissa == 0 ? 0 : 1;
+            } else {
+                scale++;
+                exact = false;
+            }
+        }
+        if (i < end && text.charAt(i) == '.') {
+            for (i++; i < end && text.charAt(i) >= '0' && text.charAt(i) <= '9'; i++) {
+                any = true;
+                if (digits < MAX_DIGITS) {
+                    mantissa = mantissa * 10 + (text.charAt(i) - '0');
+                    digits += mantissa == 0 ? 0 : 1;
+                    scale--;
+                } else {
+                    exact = false;
+                }
+            }
+        }
+        if (!any) {
+            return Double.NaN;
+        }
+        if (i < end && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                negativeExponent = text.charAt(i) == '-';
+                i++;
+            }
+            int exponentStart = i;
+            int exponent = 0;
+            for (; i < end && text.charAt(i) >= '0' && text.charAt(i) <= '9'; i++) {
+                exponent = Math.min(exponent * 10 + (text.charAt(i) - '0'), 9999);
+            }
+            if (i == exponentStart) {
+                return Double.NaN;
+            }
+            scale += negativeExponent ? -exponent : exponent;
+        }
+        if (i != end) {
+            return Double.NaN;
+        }
+        if (exact && mantissa < (1L << 53) && Math.abs(scale) < POWERS.length) {
+            double value = scale >= 0 ? mantissa * POWERS[scale] : mantissa / POWERS[-scale];
+            return negative ? -value : value;
+        }
+        return Double.parseDouble(text.substring(start, end));
+    }
+
+    static String toString(double number) {
+        if (number == Math.rint(number) && Math.abs(number) < 1e15) {
+            return Long.toString((long) number);
+        }
+        return BigDecimal.valueOf(number).toPlainString();
+    }
+
+    static DateTimeFormatter formatter(String pattern) {
+        DateTimeFormatter formatter = FORMATTERS.get(pattern);
+        if (formatter == null) {
+            formatter = DateTimeFormatter.ofPattern(pattern);
+            // 格式一般是代码中的常量，超过上限时不再缓存
+            if (FORMATTERS.size() < MAX_PATTERNS) {
+                FORMATTERS.putIfAbsent(pattern, formatter);
+            }
+        }
+        return formatter;
+    }
+
+    /**
+     * SimpleDateFormat &#x4E0D;&#x662F;&#x7EBF;&#x7A0B;&#x5B89;&#x5168;&#x7684;&#xFF0C;&#x6BCF;&#x4E2A;&#x7EBF;&#x7A0B;&#x5404;&#x81EA;&#x7F13;&#x5B58;
+     */
+    static SimpleDateFormat dateFormat(String pattern) {
+        Map<String, SimpleDateFormat> formats = DATE_FORMATS.get();
+        SimpleDateFormat format = formats.get(pattern);
+        if (format == null) {
+            format = new SimpleDateFormat(pattern);
+            if (formats.size() < MAX_PATTERNS) {
+                formats.put(pattern, format);
+            }
+        }
+        return format;
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.codert96.excel.diy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * &#x5408;&#x5E76;&#x5355;&#x5143;&#x683C;&#x7684;&#x533A;&#x95F4;&#x6811;&#xFF1A;&#x6309;&#x8D77;&#x59CB;&#x884C;&#x6392;&#x5E8F;&#x7684;&#x6570;&#x7EC4;&#x5373;&#x5E73;&#x8861;&#x4E8C;&#x53C9;&#x6811;&#xFF0C;&#x6BCF;&#x4E2A;&#x8282;&#x70B9;&#x8BB0;&#x5F55;&#x5B50;&#x6811;&#x6700;&#x5927;&#x7684;&#x7ED3;&#x675F;&#x884C;&#xFF0C;
+ * &#x67E5;&#x8BE2;&#x53EA;&#x8BBF;&#x95EE;&#x548C;&#x884C;&#x533A;&#x95F4;&#x76F8;&#x4EA4;&#x7684;&#x8282;&#x70B9;
+ */
+final class MergeIndex {
+    private static final Comparator<Sheet.Merge> ORDER = Comparator.comparingInt(Sheet.Merge::getFirstRowIndex)
+            .thenComparingInt(Sheet.Merge::getFirstColumnIndex);
+    private final Sheet.Merge[] merges;
+    private final int[] maxLastRowIndex;
+
+    MergeIndex(Collection<Sheet.Merge> merges) {
+        this.merges = merges.toArray(new Sheet.Merge[0]);
+        this.maxLastRowIndex = new int[this.merges.length];
+        Arrays.sort(this.merges, ORDER);
+        build(0, this.merges.length - 1);
+    }
+
+    private int build(int low, int high) {
+        if (low > high) {
+            return Integer.MIN_VALUE;
+        }
+        int mid = (low + high) >>> 1;
+        int max = Math.max(merges[mid].getLastRowIndex(), Math.max(build(low, mid - 1), build(mid + 1, high)));
+        maxLastRowIndex[mid] = max;
+        return max;
+    }
+
+    Sheet.Merge find(int rowindex, int colindex) {
+        Sheet.Merge[] found = new Sheet.Merge[1];
+        visit(0, merges.length - 1, rowindex, rowindex, merge -> {
+            if (merge.isMergeRange(rowindex, colindex)) {
+                found[0] = merge;
+                return false;
+            }
+            return true;
+        });
+        return found[0];
+    }
+
+    List<Sheet.Merge> intersecting(int firstRowIndex, int lastRowIndex, int firstColumnIndex, int lastColumnIndex) {
+        List<Sheet.Merge> result = new ArrayList<>();
+        visit(0, merges.length - 1, firstRowIndex, lastRowIndex, merge -> {
+            if (merge.getFirstColumnIndex() <= lastColumnIndex && merge.getLastColumnIndex() >= firstColumnIndex) {
+                result.add(merge);
+            }
+            return true;
+        });
+        return result;
+    }
+
+    /**
+     * &#x6309;&#x8D77;&#x59CB;&#x884C;&#x987A;&#x5E8F;&#x8BBF;&#x95EE;&#x548C; [firstRowIndex, lastRowIndex] &#x76F8;&#x4EA4;&#x7684;&#x5408;&#x5E76;&#x533A;&#x57DF;&#xFF0C;visitor &#x8FD4;&#x56DE; false &#x65F6;&#x505C;&#x6B62;
+     */
+    private boolean visit(int low, int high, int firstRowIndex, int lastRowIndex, Predicate<Sheet.Merge> visitor) {
+        if (low > high) {
+            return true;
+        }
+        int mid = (low + high) >>> 1;
+        if (maxLastRowIndex[mid] < firstRowIndex) {
+            return true;
+        }
+        if (!visit(low, mid - 1, firstRowIndex, lastRowIndex, visitor)) {
+            return false;
+        }
+        Sheet.Merge merge = merges[mid];
+        if (merge.getFirstRowIndex() > lastRowIndex) {
+            return true;
+        }
+        if (merge.getLastRowIndex() >= firstRowIndex && !visitor.test(merge)) {
+            return false;
+        }
+        return visit(mid + 1, high, firstRowIndex, lastRowIndex, visitor);
+    }
+}
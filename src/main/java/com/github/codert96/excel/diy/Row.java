@@ -1,36 +1,638 @@
 package com.github.codert96.excel.diy;
 
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serializable;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
+import java.nio.ByteBuffer;
+import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
-@Getter
-@AllArgsConstructor
-@EqualsAndHashCode(callSuper = false)
-public class Row extends HashMap<Integer, Cell> implements Comparable<Row>, Comparator<Row>, Serializable {
+/**
+ * &#x5217;&#x53F7;&#x6709;&#x5E8F;&#x4FDD;&#x5B58;&#x5728; int &#x6570;&#x7EC4;&#x4E2D;&#xFF0C;&#x6587;&#x672C;&#x4FDD;&#x5B58;&#x4E3A;&#x5B57;&#x7B26;&#x4E32;&#x8868;&#x7F16;&#x53F7;&#xFF0C;&#x94FE;&#x63A5;&#x3001;&#x6279;&#x6CE8;&#x3001;&#x516C;&#x5F0F;&#x53EA;&#x5728;&#x51FA;&#x73B0;&#x65F6;&#x5206;&#x914D;&#xFF0C;
+ * Cell &#x53EA;&#x662F;&#x8BBF;&#x95EE;&#x67D0;&#x4E00;&#x5217;&#x7684;&#x89C6;&#x56FE;
+ */
+@EqualsAndHashCode(callSuper = false, of = {"sheetIndex", "sheetName", "rowIndex"})
+public class Row extends AbstractMap<Integer, Cell> implements Comparable<Row>, Comparator<Row>, Serializable {
+    static final byte TEXT = 0;
+    static final byte NUMBER = 1;
+    static final byte DATE = 2;
+    private static final int[] EMPTY = new int[0];
+    @Getter
     private final int sheetIndex;
+    @Getter
     private final String sheetName;
+    @Getter
     private final int rowIndex;
+    private final StringTable strings;
+    private final Sheet sheet;
+    private int[] columns = EMPTY;
+    private int[] values = EMPTY;
+    private int[] links;
+    private int[] comments;
+    private int[] formulas;
+    /**
+     * &#x6570;&#x5B57;&#x3001;&#x65E5;&#x671F;&#x5355;&#x5143;&#x683C;&#x4FDD;&#x7559; EasyExcel &#x8BFB;&#x5230;&#x7684;&#x539F;&#x503C;&#xFF0C;&#x7B2C;&#x4E00;&#x6B21;&#x51FA;&#x73B0;&#x65F6;&#x5206;&#x914D;
+     */
+    private byte[] types;
+    private double[] numbers;
+    private int count;
 
+    public Row(int sheetIndex, String sheetName, int rowIndex) {
+        this(sheetIndex, sheetName, rowIndex, new StringTable(), null);
+    }
+
+    Row(int sheetIndex, String sheetName, int rowIndex, StringTable strings, Sheet sheet) {
+        this.sheetIndex = sheetIndex;
+        this.sheetName = sheetName;
+        this.rowIndex = rowIndex;
+        this.strings = strings;
+        this.sheet = sheet;
+    }
 
     public Cell findCell(Predicate<Cell> predicate) {
-        return values().stream().filter(predicate).findFirst().orElse(null);
+        return cells().filter(predicate).findFirst().orElse(null);
     }
 
     public Cell getCell(int colindex) {
-        return get(colindex);
+        return indexOf(colindex) < 0 && lazyMerge(-1, colindex) == null ? null : new Cell(this, colindex);
     }
 
     public List<Cell> findCells(Predicate<Cell> predicate) {
-        return values().stream().filter(predicate).sorted().collect(Collectors.toCollection(LinkedList::new));
+        return cells().filter(predicate).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * &#x6309;&#x5217;&#x53F7;&#x987A;&#x5E8F;&#x7684;&#x6240;&#x6709;&#x5355;&#x5143;&#x683C;
+     */
+    public Stream<Cell> cells() {
+        return cells(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * &#x5217;&#x53F7;&#x5728; [firstColumnIndex, lastColumnIndex] &#x4E4B;&#x95F4;&#x7684;&#x5355;&#x5143;&#x683C;&#xFF0C;&#x6309;&#x5217;&#x53F7;&#x987A;&#x5E8F;&#x60F0;&#x6027;&#x8FD4;&#x56DE;
+     */
+    public Stream<Cell> cells(int firstColumnIndex, int lastColumnIndex) {
+        int from = indexOf(firstColumnIndex);
+        from = from >= 0 ? from : -from - 1;
+        int to = indexOf(lastColumnIndex);
+        to = to >= 0 ? to + 1 : -to - 1;
+        int[] array = columns;
+        return IntStream.range(from, Math.max(from, to)).mapToObj(index -> new Cell(this, array[index]));
+    }
+
+    /**
+     * &#x6CA1;&#x6709;&#x8FD9;&#x4E00;&#x5217;&#x65F6;&#x521B;&#x5EFA;
+     */
+    Cell cell(int colindex) {
+        slot(colindex);
+        return new Cell(this, colindex);
+    }
+
+    private int indexOf(int colindex) {
+        return Arrays.binarySearch(columns, 0, count, colindex);
+    }
+
+    private int slot(int colindex) {
+        if (count == 0 && sheet != null) {
+            // 延迟填充时合并区域内的空行第一次写入才加入 Sheet
+            sheet.attach(this);
+        }
+        // 按列顺序读入时直接追加
+        if (count == 0 || columns[count - 1] < colindex) {
+            ensureCapacity();
+            columns[count] = colindex;
+            values[count] = StringTable.NULL;
+            fill(count);
+            return count++;
+        }
+        int index = indexOf(colindex);
+        if (index >= 0) {
+            return index;
+        }
+        index = -index - 1;
+        ensureCapacity();
+        int moved = count - index;
+        System.arraycopy(columns, index, columns, index + 1, moved);
+        System.arraycopy(values, index, values, index + 1, moved);
+        shift(links, index, moved);
+        shift(comments, index, moved);
+        shift(formulas, index, moved);
+        if (types != null) {
+            System.arraycopy(types, index, types, index + 1, moved);
+            System.arraycopy(numbers, index, numbers, index + 1, moved);
+        }
+        columns[index] = colindex;
+        values[index] = StringTable.NULL;
+        fill(index);
+        count++;
+        return index;
+    }
+
+    private static void shift(int[] array, int index, int moved) {
+        if (array != null) {
+            System.arraycopy(array, index, array, index + 1, moved);
+        }
+    }
+
+    private void fill(int index) {
+        if (links != null) {
+            links[index] = StringTable.NULL;
+        }
+        if (comments != null) {
+            comments[index] = StringTable.NULL;
+        }
+        if (formulas != null) {
+            formulas[index] = StringTable.NULL;
+        }
+        if (types != null) {
+            types[index] = TEXT;
+        }
+    }
+
+    private void ensureCapacity() {
+        if (count < columns.length) {
+            return;
+        }
+        int capacity = Math.max(4, columns.length + (columns.length >> 1));
+        columns = Arrays.copyOf(columns, capacity);
+        values = Arrays.copyOf(values, capacity);
+        links = grow(links, capacity);
+        comments = grow(comments, capacity);
+        formulas = grow(formulas, capacity);
+        if (types != null) {
+            types = Arrays.copyOf(types, capacity);
+            numbers = Arrays.copyOf(numbers, capacity);
+        }
+    }
+
+    /**
+     * &#x8BFB;&#x5B8C;&#x4E00;&#x884C;&#x540E;&#x53BB;&#x6389;&#x6570;&#x7EC4;&#x672B;&#x5C3E;&#x591A;&#x4F59;&#x7684;&#x5BB9;&#x91CF;
+     */
+    void trimToSize() {
+        if (count == columns.length) {
+            return;
+        }
+        columns = Arrays.copyOf(columns, count);
+        values = Arrays.copyOf(values, count);
+        links = grow(links, count);
+        comments = grow(comments, count);
+        formulas = grow(formulas, count);
+        if (types != null) {
+            types = Arrays.copyOf(types, count);
+            numbers = Arrays.copyOf(numbers, count);
+        }
+    }
+
+    private static int[] grow(int[] array, int capacity) {
+        return array == null ? null : Arrays.copyOf(array, capacity);
+    }
+
+    private void allocateNumbers() {
+        if (types == null) {
+            types = new byte[columns.length];
+            numbers = new double[columns.length];
+        }
+    }
+
+    private int[] allocate() {
+        int[] array = new int[columns.length];
+        Arrays.fill(array, StringTable.NULL);
+        return array;
+    }
+
+    /**
+     * &#x5EF6;&#x8FDF;&#x586B;&#x5145;&#x65F6;&#x6CA1;&#x6709;&#x503C;&#x7684;&#x5355;&#x5143;&#x683C;&#x53D6;&#x6240;&#x5728;&#x5408;&#x5E76;&#x533A;&#x57DF;&#x7684;&#x5185;&#x5BB9;
+     */
+    private Sheet.Merge lazyMerge(int index, int colindex) {
+        if (sheet == null || !sheet.isLazyMerge() || (index >= 0 && values[index] != StringTable.NULL)) {
+            return null;
+        }
+        Sheet.Merge merge = sheet.getMerge(rowIndex, colindex);
+        // 区域内没有值的合并和直接填充时一样不生效
+        return merge == null || merge.getValue() == null ? null : merge;
+    }
+
+    String value(int colindex) {
+        int index = indexOf(colindex);
+        if (index >= 0 && values[index] != StringTable.NULL) {
+            return strings.get(values[index]);
+        }
+        if (index >= 0 && types != null && types[index] != TEXT) {
+            return CellValues.toString(numbers[index]);
+        }
+        Sheet.Merge merge = lazyMerge(index, colindex);
+        return merge == null ? null : merge.getValue();
+    }
+
+    String link(int colindex) {
+        int index = indexOf(colindex);
+        Sheet.Merge merge = lazyMerge(index, colindex);
+        return merge == null ? attribute(links, index) : merge.getLink();
+    }
+
+    String comment(int colindex) {
+        int index = indexOf(colindex);
+        Sheet.Merge merge = lazyMerge(index, colindex);
+        return merge == null ? attribute(comments, index) : merge.getComment();
+    }
+
+    String formula(int colindex) {
+        int index = indexOf(colindex);
+        Sheet.Merge merge = lazyMerge(index, colindex);
+        return merge == null ? attribute(formulas, index) : merge.getFormula();
+    }
+
+    private String attribute(int[] array, int index) {
+        return array == null || index < 0 ? null : strings.get(array[index]);
+    }
+
+    /**
+     * &#x533A;&#x95F4;&#x5185;&#x6700;&#x540E;&#x4E00;&#x4E2A;&#x6709;&#x503C;&#x7684;&#x5217;&#xFF0C;&#x6CA1;&#x6709;&#x65F6;&#x8FD4;&#x56DE; -1
+     */
+    int lastValued(int firstColumnIndex, int lastColumnIndex) {
+        int high = indexOf(lastColumnIndex);
+        high = high >= 0 ? high : -high - 2;
+        for (int index = high; index >= 0 && columns[index] >= firstColumnIndex; index--) {
+            if (values[index] != StringTable.NULL || (types != null && types[index] != TEXT)) {
+                return columns[index];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * &#x628A;&#x533A;&#x95F4;&#x5185;&#x6CA1;&#x6709;&#x503C;&#x7684;&#x5355;&#x5143;&#x683C;&#x586B;&#x6210; source &#x7684;&#x5185;&#x5BB9;&#xFF0C;&#x6587;&#x672C;&#x53EA;&#x67E5;&#x4E00;&#x6B21;&#x5B57;&#x7B26;&#x4E32;&#x8868;
+     */
+    void fill(int firstColumnIndex, int lastColumnIndex, Cell source) {
+        byte type = source.type();
+        double number = type == TEXT ? 0 : source.getDouble();
+        // 日期保留原来的文本，数字由原值生成
+        int value = type == NUMBER ? StringTable.NULL : strings.intern(source.getValue());
+        int link = strings.intern(source.getLink());
+        int comment = strings.intern(source.getComment());
+        int formula = strings.intern(source.getFormula());
+        for (int colindex = firstColumnIndex; colindex <= lastColumnIndex; colindex++) {
+            int index = slot(colindex);
+            if (values[index] != StringTable.NULL || (types != null && types[index] != TEXT)) {
+                continue;
+            }
+            if (type != TEXT) {
+                allocateNumbers();
+                types[index] = type;
+                numbers[index] = number;
+            }
+            values[index] = value;
+            if (link != StringTable.NULL || links != null) {
+                if (links == null) {
+                    links = allocate();
+                }
+                links[index] = link;
+            }
+            if (comment != StringTable.NULL || comments != null) {
+                if (comments == null) {
+                    comments = allocate();
+                }
+                comments[index] = comment;
+            }
+            if (formula != StringTable.NULL || formulas != null) {
+                if (formulas == null) {
+                    formulas = allocate();
+                }
+                formulas[index] = formula;
+            }
+        }
+    }
+
+    void value(int colindex, String value) {
+        int index = slot(colindex);
+        values[index] = strings.intern(value);
+        if (types != null) {
+            types[index] = TEXT;
+        }
+    }
+
+    /**
+     * &#x5355;&#x5143;&#x683C;&#x6CA1;&#x6709;&#x539F;&#x503C;&#xFF08;&#x5305;&#x62EC;&#x5EF6;&#x8FDF;&#x586B;&#x5145;&#x7684;&#x5408;&#x5E76;&#x533A;&#x57DF;&#xFF09;&#x65F6;&#x8FD4;&#x56DE; TEXT
+     */
+    byte type(int colindex) {
+        if (types == null) {
+            return TEXT;
+        }
+        int index = indexOf(colindex);
+        return index < 0 ? TEXT : types[index];
+    }
+
+    double number(int colindex) {
+        return numbers[indexOf(colindex)];
+    }
+
+    /**
+     * @param text &#x6709;&#x683C;&#x5F0F;&#x7684;&#x6587;&#x672C;&#xFF08;&#x5982;&#x65E5;&#x671F;&#xFF09;&#x65F6;&#x4E00;&#x8D77;&#x4FDD;&#x5B58;&#xFF0C;&#x4E3A; null &#x65F6; getValue &#x7531;&#x6570;&#x5B57;&#x751F;&#x6210;
+     */
+    void number(int colindex, byte type, double number, String text) {
+        int index = slot(colindex);
+        allocateNumbers();
+        values[index] = strings.intern(text);
+        types[index] = type;
+        numbers[index] = number;
+    }
+
+    void link(int colindex, String link) {
+        if (links == null && link == null) {
+            return;
+        }
+        int index = slot(colindex);
+        if (links == null) {
+            links = allocate();
+        }
+        links[index] = strings.intern(link);
+    }
+
+    void comment(int colindex, String comment) {
+        if (comments == null && comment == null) {
+            return;
+        }
+        int index = slot(colindex);
+        if (comments == null) {
+            comments = allocate();
+        }
+        comments[index] = strings.intern(comment);
+    }
+
+    void formula(int colindex, String formula) {
+        if (formulas == null && formula == null) {
+            return;
+        }
+        int index = slot(colindex);
+        if (formulas == null) {
+            formulas = allocate();
+        }
+        formulas[index] = strings.intern(formula);
+    }
+
+    /**
+     * &#x6309;&#x5C5E;&#x6027;&#x5206;&#x6BB5;&#x5199;&#x51FA;&#xFF1A;&#x884C;&#x53F7;&#x548C;&#x5217;&#x6570;&#x3001;&#x5217;&#x53F7;&#x3001;&#x6587;&#x672C;&#x3001;&#x94FE;&#x63A5;&#x3001;&#x6279;&#x6CE8;&#x3001;&#x516C;&#x5F0F;&#x3001;&#x539F;&#x503C;&#x3002;
+     * &#x884C;&#x53F7;&#x3001;&#x5217;&#x53F7;&#x5199;&#x5DEE;&#x503C;&#xFF0C;&#x5B57;&#x7B26;&#x4E32;&#x7F16;&#x53F7;&#x52A0; 1&#xFF08;NULL &#x4E3A; 0&#xFF09;&#xFF0C;&#x90FD;&#x7528; varint
+     */
+    static void write(DataOutput out, Row[] rows, int size, StringTable.Subset subset) throws IOException {
+        int previous = -1;
+        for (int i = 0; i < size; i++) {
+            Row row = rows[i];
+            Varint.write(out, row.rowIndex - previous - 1);
+            previous = row.rowIndex;
+            Varint.write(out, row.count);
+            out.writeByte(row.attributes());
+        }
+        for (int i = 0; i < size; i++) {
+            Row row = rows[i];
+            int column = -1;
+            for (int j = 0; j < row.count; j++) {
+                Varint.write(out, row.columns[j] - column - 1);
+                column = row.columns[j];
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            rows[i].write(out, rows[i].values, subset);
+        }
+        for (int i = 0; i < size; i++) {
+            rows[i].write(out, rows[i].links, subset);
+        }
+        for (int i = 0; i < size; i++) {
+            rows[i].write(out, rows[i].comments, subset);
+        }
+        for (int i = 0; i < size; i++) {
+            rows[i].write(out, rows[i].formulas, subset);
+        }
+        for (int i = 0; i < size; i++) {
+            Row row = rows[i];
+            if (row.types == null) {
+                continue;
+            }
+            out.write(row.types, 0, row.count);
+            for (int j = 0; j < row.count; j++) {
+                if (row.types[j] != TEXT) {
+                    out.writeDouble(row.numbers[j]);
+                }
+            }
+        }
+    }
+
+    private int attributes() {
+        return (links != null ? 1 : 0) | (comments != null ? 2 : 0) | (formulas != null ? 4 : 0) | (types != null ? 8 : 0);
+    }
+
+    private void write(DataOutput out, int[] array, StringTable.Subset subset) throws IOException {
+        if (array == null) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            Varint.write(out, subset.map(strings, array[i]) + 1);
+        }
+    }
+
+    /**
+     * &#x5199;&#x51FA;&#x524D;&#x628A;&#x7528;&#x5230;&#x7684;&#x6587;&#x672C;&#x767B;&#x8BB0;&#x5230;&#x5B50;&#x8868;
+     */
+    void collect(StringTable.Subset subset) {
+        collect(values, subset);
+        collect(links, subset);
+        collect(comments, subset);
+        collect(formulas, subset);
+    }
+
+    private void collect(int[] array, StringTable.Subset subset) {
+        if (array == null) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            subset.map(strings, array[i]);
+        }
+    }
+
+    static Row[] read(ByteBuffer buffer, int size, Sheet sheet, StringTable strings) {
+        Row[] rows = new Row[size];
+        int previous = -1;
+        for (int i = 0; i < size; i++) {
+            Row row = new Row(sheet.getSheetIndex(), sheet.getSheetName(), previous + 1 + Varint.read(buffer), strings, sheet);
+            previous = row.rowIndex;
+            int count = Varint.read(buffer);
+            int attributes = buffer.get();
+            row.count = count;
+            row.columns = new int[count];
+            row.values = new int[count];
+            row.links = (attributes & 1) != 0 ? new int[count] : null;
+            row.comments = (attributes & 2) != 0 ? new int[count] : null;
+            row.formulas = (attributes & 4) != 0 ? new int[count] : null;
+            row.types = (attributes & 8) != 0 ? new byte[count] : null;
+            row.numbers = (attributes & 8) != 0 ? new double[count] : null;
+            rows[i] = row;
+        }
+        for (Row row : rows) {
+            int column = -1;
+            for (int j = 0; j < row.count; j++) {
+                column = column + 1 + Varint.read(buffer);
+                row.columns[j] = column;
+            }
+        }
+        for (Row row : rows) {
+            read(buffer, row.values);
+        }
+        for (Row row : rows) {
+            read(buffer, row.links);
+        }
+        for (Row row : rows) {
+            read(buffer, row.comments);
+        }
+        for (Row row : rows) {
+            read(buffer, row.formulas);
+        }
+        for (Row row : rows) {
+            if (row.types == null) {
+                continue;
+            }
+            buffer.get(row.types);
+            for (int j = 0; j < row.count; j++) {
+                if (row.types[j] != TEXT) {
+                    row.numbers[j] = buffer.getDouble();
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static void read(ByteBuffer buffer, int[] array) {
+        if (array == null) {
+            return;
+        }
+        for (int i = 0; i < array.length; i++) {
+            array[i] = Varint.read(buffer) - 1;
+        }
+    }
+
+    private void removeAt(int index) {
+        int moved = count - index - 1;
+        System.arraycopy(columns, index + 1, columns, index, moved);
+        System.arraycopy(values, index + 1, values, index, moved);
+        if (links != null) {
+            System.arraycopy(links, index + 1, links, index, moved);
+        }
+        if (comments != null) {
+            System.arraycopy(comments, index + 1, comments, index, moved);
+        }
+        if (formulas != null) {
+            System.arraycopy(formulas, index + 1, formulas, index, moved);
+        }
+        if (types != null) {
+            System.arraycopy(types, index + 1, types, index, moved);
+            System.arraycopy(numbers, index + 1, numbers, index, moved);
+        }
+        count--;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Integer colindex && indexOf(colindex) >= 0;
+    }
+
+    @Override
+    public Cell get(Object key) {
+        return key instanceof Integer colindex ? getCell(colindex) : null;
+    }
+
+    /**
+     * &#x590D;&#x5236;&#x5355;&#x5143;&#x683C;&#x7684;&#x5185;&#x5BB9;&#x5230;&#x8FD9;&#x4E00;&#x5217;&#xFF0C;&#x6570;&#x5B57;&#x3001;&#x65E5;&#x671F;&#x5355;&#x5143;&#x683C;&#x8FDE;&#x540C;&#x539F;&#x503C;&#x4E00;&#x8D77;&#x590D;&#x5236;
+     */
+    @Override
+    public Cell put(Integer key, Cell cell) {
+        Cell previous = getCell(key);
+        if (previous != null) {
+            // 返回被覆盖前的内容
+            previous = Cell.copyOf(this, key);
+        }
+        byte type = cell.type();
+        if (type == TEXT) {
+            value(key, cell.getValue());
+        } else {
+            // 数字由原值生成文本，日期保留原来的文本
+            number(key, type, cell.getDouble(), type == DATE ? cell.getValue() : null);
+        }
+        link(key, cell.getLink());
+        comment(key, cell.getComment());
+        formula(key, cell.getFormula());
+        return previous;
+    }
+
+    @Override
+    public Cell remove(Object key) {
+        if (!(key instanceof Integer colindex)) {
+            return null;
+        }
+        int index = indexOf(colindex);
+        if (index < 0) {
+            return null;
+        }
+        Cell previous = Cell.copyOf(this, colindex);
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        count = 0;
+    }
+
+    @Override
+    public Set<Entry<Integer, Cell>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Integer, Cell>> iterator() {
+                return new Iterator<>() {
+                    private int index;
+                    private int last = -1;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < count;
+                    }
+
+                    @Override
+                    public Entry<Integer, Cell> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        last = index;
+                        int colindex = columns[index++];
+                        return new SimpleImmutableEntry<>(colindex, new Cell(Row.this, colindex));
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (last < 0) {
+                            throw new IllegalStateException();
+                        }
+                        removeAt(last);
+                        index = last;
+                        last = -1;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
     }
 
     @Override
@@ -47,4 +649,4 @@ public class Row extends HashMap<Integer, Cell> implements Comparable<Row>, Comp
         return o1.compareTo(o2);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,10 @@
+package com.github.codert96.excel.diy;
+
+@FunctionalInterface
+public interface RowConsumer {
+
+    /**
+     * @param row &#x521A;&#x89E3;&#x6790;&#x5B8C;&#x7684;&#x4E00;&#x884C;&#xFF0C;&#x53EA;&#x6709;&#x5355;&#x5143;&#x683C;&#x503C;&#x548C;&#x516C;&#x5F0F;
+     */
+    void accept(Row row) throws Exception;
+}
@@ -3,55 +3,363 @@ package com.github.codert96.excel.diy;
 import lombok.*;
 import lombok.experimental.Accessors;
 
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 @Getter
-@AllArgsConstructor
-@EqualsAndHashCode(callSuper = false)
-public class Sheet extends HashMap<Integer, Row> implements Comparable<Sheet>, Comparator<Sheet>, Serializable {
+@EqualsAndHashCode(callSuper = false, of = {"sheetIndex", "sheetName", "merges"})
+public class Sheet extends AbstractMap<Integer, Row> implements Comparable<Sheet>, Comparator<Sheet>, Serializable {
     private final int sheetIndex;
     private final String sheetName;
 
     @Getter(AccessLevel.NONE)
     private final Set<Merge> merges = new HashSet<>();
 
+    /**
+     * &#x4E3A; null &#x65F6;&#x6BCF;&#x4E00;&#x884C;&#x4F7F;&#x7528;&#x81EA;&#x5DF1;&#x7684;&#x5B57;&#x7B26;&#x4E32;&#x8868;&#xFF0C;&#x9010;&#x884C;&#x4EA4;&#x4ED8;&#x65F6;&#x4EA4;&#x4ED8;&#x540E;&#x7684;&#x884C;&#x4E0D;&#x4F1A;&#x8BA9;&#x6574;&#x4E2A; sheet &#x7684;&#x6587;&#x672C;&#x4E00;&#x76F4;&#x7559;&#x5728;&#x5185;&#x5B58;&#x4E2D;
+     */
+    @Getter(AccessLevel.NONE)
+    private final StringTable strings;
+
+    @Getter(AccessLevel.NONE)
+    private int[] rowIndexes = new int[0];
+
+    @Getter(AccessLevel.NONE)
+    private Row[] rows = new Row[0];
+
+    @Getter(AccessLevel.NONE)
+    private int count;
+
+    @Getter(AccessLevel.NONE)
+    private transient volatile MergeIndex mergeIndex;
+
+    /**
+     * &#x5408;&#x5E76;&#x533A;&#x57DF;&#x5185;&#x7684;&#x7A7A;&#x5355;&#x5143;&#x683C;&#x4E0D;&#x5199;&#x5165;&#xFF0C;&#x8BFB;&#x53D6;&#x65F6;&#x4ECE;&#x5408;&#x5E76;&#x533A;&#x57DF;&#x53D6;&#x503C;
+     */
+    private final boolean lazyMerge;
+
+    public Sheet(int sheetIndex, String sheetName) {
+        this(sheetIndex, sheetName, new StringTable(), false);
+    }
+
+    Sheet(int sheetIndex, String sheetName, StringTable strings, boolean lazyMerge) {
+        this.sheetIndex = sheetIndex;
+        this.sheetName = sheetName;
+        this.strings = strings;
+        this.lazyMerge = lazyMerge;
+    }
+
     public Merge put(Merge merge) {
-        merges.add(merge);
+        if (merges.add(merge)) {
+            mergeIndex = null;
+        }
         return merge;
     }
 
+    private MergeIndex mergeIndex() {
+        MergeIndex index = mergeIndex;
+        if (index == null) {
+            // 合并区域变化后第一次查询时重建
+            index = new MergeIndex(merges);
+            mergeIndex = index;
+        }
+        return index;
+    }
+
     public String getMergeValue(int rowindex, int colindex) {
-        return stream(merges)
-                .filter(m -> m.isMergeRange(rowindex, colindex))
-                .findFirst()
+        return Optional.ofNullable(getMerge(rowindex, colindex))
                 .map(Merge::getValue)
                 .orElse(null);
     }
 
     public boolean isMergeRange(int rowindex, int colindex) {
-        return stream(merges).anyMatch(m -> m.isMergeRange(rowindex, colindex));
+        return getMerge(rowindex, colindex) != null;
+    }
+
+    public Merge getMerge(int rowindex, int colindex) {
+        return mergeIndex().find(rowindex, colindex);
+    }
+
+    /**
+     * &#x548C;&#x77E9;&#x5F62;&#x533A;&#x57DF;&#x76F8;&#x4EA4;&#x7684;&#x5408;&#x5E76;&#x5355;&#x5143;&#x683C;&#xFF0C;&#x6309;&#x8D77;&#x59CB;&#x884C;&#x3001;&#x8D77;&#x59CB;&#x5217;&#x6392;&#x5E8F;
+     */
+    public List<Merge> getMerges(int firstRowIndex, int lastRowIndex, int firstColumnIndex, int lastColumnIndex) {
+        return mergeIndex().intersecting(firstRowIndex, lastRowIndex, firstColumnIndex, lastColumnIndex);
     }
 
     public Row getRow(int rowindex) {
-        return get(rowindex);
+        Row row = get(rowindex);
+        if (row == null && lazyMerge && getMerges(rowindex, rowindex, 0, Integer.MAX_VALUE).stream().anyMatch(m -> m.getValue() != null)) {
+            // 只在合并区域中的行，写入单元格时才加入
+            return new Row(sheetIndex, sheetName, rowindex, rowStrings(), this);
+        }
+        return row;
+    }
+
+    /**
+     * &#x5355;&#x5143;&#x683C;&#x4E0D;&#x5B58;&#x5728;&#x65F6;&#x8FD4;&#x56DE; null
+     */
+    public Cell getCell(int rowindex, int colindex) {
+        Row row = getRow(rowindex);
+        return row == null ? null : row.getCell(colindex);
+    }
+
+    void attach(Row row) {
+        putIfAbsent(row.getRowIndex(), row);
+    }
+
+    /**
+     * &#x6CA1;&#x6709;&#x8FD9;&#x4E00;&#x884C;&#x65F6;&#x521B;&#x5EFA;&#xFF0C;&#x548C;&#x5DE5;&#x4F5C;&#x7C3F;&#x5171;&#x7528;&#x5B57;&#x7B26;&#x4E32;&#x8868;
+     */
+    Row row(int rowindex) {
+        return computeIfAbsent(rowindex, it -> new Row(sheetIndex, sheetName, it, rowStrings(), this));
+    }
+
+    private StringTable rowStrings() {
+        return strings == null ? new StringTable() : strings;
+    }
+
+    private int indexOf(int rowindex) {
+        return Arrays.binarySearch(rowIndexes, 0, count, rowindex);
+    }
+
+    private void insert(int index, int rowindex, Row row) {
+        if (count == rows.length) {
+            int capacity = Math.max(16, count + (count >> 1));
+            rowIndexes = Arrays.copyOf(rowIndexes, capacity);
+            rows = Arrays.copyOf(rows, capacity);
+        }
+        System.arraycopy(rowIndexes, index, rowIndexes, index + 1, count - index);
+        System.arraycopy(rows, index, rows, index + 1, count - index);
+        rowIndexes[index] = rowindex;
+        rows[index] = row;
+        count++;
+    }
+
+    private void removeAt(int index) {
+        int moved = count - index - 1;
+        System.arraycopy(rowIndexes, index + 1, rowIndexes, index, moved);
+        System.arraycopy(rows, index + 1, rows, index, moved);
+        rows[--count] = null;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Integer rowindex && indexOf(rowindex) >= 0;
+    }
+
+    @Override
+    public Row get(Object key) {
+        if (!(key instanceof Integer rowindex)) {
+            return null;
+        }
+        int index = indexOf(rowindex);
+        return index < 0 ? null : rows[index];
+    }
+
+    @Override
+    public Row put(Integer key, Row value) {
+        // 按行顺序读入时直接追加
+        int index = count == 0 || rowIndexes[count - 1] < key ? -count - 1 : indexOf(key);
+        if (index >= 0) {
+            Row previous = rows[index];
+            rows[index] = value;
+            return previous;
+        }
+        insert(-index - 1, key, value);
+        return null;
+    }
+
+    @Override
+    public Row remove(Object key) {
+        if (!(key instanceof Integer rowindex)) {
+            return null;
+        }
+        int index = indexOf(rowindex);
+        if (index < 0) {
+            return null;
+        }
+        Row previous = rows[index];
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(rows, 0, count, null);
+        count = 0;
+    }
+
+    @Override
+    public Collection<Row> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Row> iterator() {
+                return rows().iterator();
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<Integer, Row>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Integer, Row>> iterator() {
+                return new Iterator<>() {
+                    private int index;
+                    private int last = -1;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < count;
+                    }
+
+                    @Override
+                    public Entry<Integer, Row> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        last = index++;
+                        return new SimpleImmutableEntry<>(rowIndexes[last], rows[last]);
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (last < 0) {
+                            throw new IllegalStateException();
+                        }
+                        removeAt(last);
+                        index = last;
+                        last = -1;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    /**
+     * &#x6309;&#x884C;&#x53F7;&#x987A;&#x5E8F;&#x7684;&#x6240;&#x6709;&#x884C;
+     */
+    public Stream<Row> rows() {
+        return rows(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * &#x884C;&#x53F7;&#x5728; [firstRowIndex, lastRowIndex] &#x4E4B;&#x95F4;&#x7684;&#x884C;&#xFF0C;&#x6309;&#x884C;&#x53F7;&#x987A;&#x5E8F;&#x60F0;&#x6027;&#x8FD4;&#x56DE;
+     */
+    public Stream<Row> rows(int firstRowIndex, int lastRowIndex) {
+        int from = indexOf(firstRowIndex);
+        from = from >= 0 ? from : -from - 1;
+        int to = indexOf(lastRowIndex);
+        to = to >= 0 ? to + 1 : -to - 1;
+        Row[] array = rows;
+        return IntStream.range(from, Math.max(from, to)).mapToObj(index -> array[index]);
     }
 
     public Row findRow(Predicate<Row> consumer) {
-        return stream(values()).filter(consumer).sorted().findFirst().orElse(null);
+        return rows().filter(consumer).findFirst().orElse(null);
     }
 
     public List<Row> findRows(Predicate<Row> consumer) {
-        return stream(values()).filter(consumer).sorted().collect(Collectors.toCollection(LinkedList::new));
+        return rows().filter(consumer).collect(Collectors.toCollection(ArrayList::new));
     }
 
+    /**
+     * &#x5B57;&#x7B26;&#x4E32;&#x8868;&#x3001;&#x5408;&#x5E76;&#x533A;&#x57DF;&#x3001;&#x6309;&#x884C;&#x53F7;&#x987A;&#x5E8F;&#x7684;&#x884C;&#x3002;
+     * &#x5B57;&#x7B26;&#x4E32;&#x8868;&#x53EA;&#x5199;&#x8FD9;&#x4E2A; sheet &#x7528;&#x5230;&#x7684;&#x6587;&#x672C;&#xFF0C;&#x548C;&#x5DE5;&#x4F5C;&#x7C3F;&#x5171;&#x7528;&#x5B57;&#x7B26;&#x4E32;&#x8868;&#x65F6;&#x4E0D;&#x4F1A;&#x6BCF;&#x4E2A; sheet &#x90FD;&#x5199;&#x4E00;&#x904D;&#x6574;&#x5F20;&#x8868;
+     */
+    void write(DataOutput out) throws IOException {
+        StringTable.Subset subset = StringTable.subset(strings);
+        List<int[]> mergeValues = new ArrayList<>(merges.size());
+        for (Merge merge : merges) {
+            // 合并区域的内容只登记到子表，不修改共用的字符串表
+            mergeValues.add(new int[]{
+                    subset.intern(merge.getValue()),
+                    subset.intern(merge.getLink()),
+                    subset.intern(merge.getComment()),
+                    subset.intern(merge.getFormula())
+            });
+        }
+        for (int i = 0; i < count; i++) {
+            rows[i].collect(subset);
+        }
+        Varint.write(out, sheetIndex);
+        byte[] name = sheetName == null ? new byte[0] : sheetName.getBytes(StandardCharsets.UTF_8);
+        Varint.write(out, sheetName == null ? 0 : name.length + 1);
+        out.write(name);
+        out.writeBoolean(lazyMerge);
+        subset.write(out);
+        Varint.write(out, merges.size());
+        int i = 0;
+        for (Merge merge : merges) {
+            Varint.write(out, merge.getFirstRowIndex());
+            Varint.write(out, merge.getLastRowIndex() - merge.getFirstRowIndex());
+            Varint.write(out, merge.getFirstColumnIndex());
+            Varint.write(out, merge.getLastColumnIndex() - merge.getFirstColumnIndex());
+            for (int id : mergeValues.get(i++)) {
+                Varint.write(out, id + 1);
+            }
+        }
+        Varint.write(out, count);
+        Row.write(out, rows, count, subset);
+    }
 
-    private <T> Stream<T> stream(Collection<T> collection) {
-        int size = collection.size();
-        return (size > 1024 ? collection.parallelStream() : collection.stream());
+    static Sheet read(ByteBuffer buffer) {
+        int sheetIndex = Varint.read(buffer);
+        int length = Varint.read(buffer);
+        String sheetName = null;
+        if (length > 0) {
+            byte[] name = new byte[length - 1];
+            buffer.get(name);
+            sheetName = new String(name, StandardCharsets.UTF_8);
+        }
+        boolean lazyMerge = buffer.get() != 0;
+        StringTable strings = StringTable.read(buffer);
+        Sheet sheet = new Sheet(sheetIndex, sheetName, strings, lazyMerge);
+        for (int i = Varint.read(buffer); i > 0; i--) {
+            int firstRowIndex = Varint.read(buffer);
+            int lastRowIndex = firstRowIndex + Varint.read(buffer);
+            int firstColumnIndex = Varint.read(buffer);
+            int lastColumnIndex = firstColumnIndex + Varint.read(buffer);
+            sheet.put(new Merge(firstRowIndex, lastRowIndex, firstColumnIndex, lastColumnIndex)
+                    .setValue(strings.get(Varint.read(buffer) - 1))
+                    .setLink(strings.get(Varint.read(buffer) - 1))
+                    .setComment(strings.get(Varint.read(buffer) - 1))
+                    .setFormula(strings.get(Varint.read(buffer) - 1)));
+        }
+        int size = Varint.read(buffer);
+        Row[] rows = Row.read(buffer, size, sheet, strings);
+        // 写出时已按行号排序
+        sheet.rows = rows;
+        sheet.rowIndexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            sheet.rowIndexes[i] = rows[i].getRowIndex();
+        }
+        sheet.count = size;
+        return sheet;
     }
 
     @Override
@@ -0,0 +1,10 @@
+package com.github.codert96.excel.diy;
+
+@FunctionalInterface
+public interface SheetConsumer {
+
+    /**
+     * @param sheet &#x5DF2;&#x8BFB;&#x5B8C;&#x7684; sheet&#xFF0C;&#x5408;&#x5E76;&#x533A;&#x57DF;&#x3001;&#x8D85;&#x94FE;&#x63A5;&#x3001;&#x6279;&#x6CE8;&#x90FD;&#x5DF2;&#x586B;&#x5145;
+     */
+    void accept(Sheet sheet) throws Exception;
+}
@@ -0,0 +1,50 @@
+package com.github.codert96.excel.diy;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * &#x8BFB;&#x5B8C;&#x7684; sheet &#x4F9D;&#x6B21;&#x8FFD;&#x52A0;&#x5230;&#x4E00;&#x4E2A;&#x4E34;&#x65F6;&#x6587;&#x4EF6;&#xFF0C;&#x8BFB;&#x53D6;&#x65F6;&#x6620;&#x5C04;&#x5BF9;&#x5E94;&#x533A;&#x95F4;&#x518D;&#x89E3;&#x7801;&#xFF0C;&#x5173;&#x95ED;&#x540E;&#x6587;&#x4EF6;&#x5220;&#x9664;
+ */
+final class SheetStore implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private final FileChannel channel;
+
+    SheetStore(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path path = Files.createTempFile(directory, "sheet-", ".bin");
+        this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    synchronized Page write(Sheet sheet) throws IOException {
+        long offset = channel.size();
+        channel.position(offset);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+        sheet.write(out);
+        out.flush();
+        long length = channel.size() - offset;
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("sheet 过大：" + sheet.getSheetName());
+        }
+        return new Page(sheet.getSheetIndex(), sheet.getSheetName(), offset, (int) length);
+    }
+
+    Sheet read(Page page) throws IOException {
+        return Sheet.read(channel.map(FileChannel.MapMode.READ_ONLY, page.offset(), page.length()));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    record Page(int sheetIndex, String sheetName, long offset, int length) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.github.codert96.excel.diy;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * &#x5355;&#x5143;&#x683C;&#x6587;&#x672C;&#x7684;&#x5B57;&#x7B26;&#x4E32;&#x8868;&#xFF0C;&#x76F8;&#x540C;&#x7684;&#x6587;&#x672C;&#x53EA;&#x4FDD;&#x5B58;&#x4E00;&#x6B21;&#xFF0C;&#x5355;&#x5143;&#x683C;&#x53EA;&#x8BB0;&#x5F55;&#x7F16;&#x53F7;&#x3002;
+ * &#x6240;&#x6709;&#x6587;&#x672C;&#x4EE5; UTF-8 &#x8FDE;&#x7EED;&#x4FDD;&#x5B58;&#x5728;&#x4E00;&#x4E2A;&#x5B57;&#x8282;&#x6570;&#x7EC4;&#x4E2D;&#xFF0C;&#x8BFB;&#x53D6;&#x65F6;&#x518D;&#x521B;&#x5EFA; String
+ */
+final class StringTable implements Serializable {
+    static final int NULL = -1;
+    private byte[] heap = new byte[256];
+    private int[] offsets = new int[17];
+    private int[] hashes = new int[16];
+    private int[] slots = new int[32];
+    private int size;
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    synchronized int intern(String value) {
+        if (value == null) {
+            return NULL;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int hash = spread(value.hashCode());
+        int mask = slots.length - 1;
+        int index = hash & mask;
+        while (slots[index] != 0) {
+            int id = slots[index] - 1;
+            if (hashes[id] == hash && Arrays.equals(heap, offsets[id], offsets[id + 1], bytes, 0, bytes.length)) {
+                return id;
+            }
+            index = (index + 1) & mask;
+        }
+        int offset = offsets[size];
+        if (offset + bytes.length > heap.length) {
+            heap = Arrays.copyOf(heap, Math.max(heap.length * 2, offset + bytes.length));
+        }
+        if (size == hashes.length) {
+            hashes = Arrays.copyOf(hashes, size * 2);
+            offsets = Arrays.copyOf(offsets, size * 2 + 1);
+        }
+        System.arraycopy(bytes, 0, heap, offset, bytes.length);
+        hashes[size] = hash;
+        offsets[size + 1] = offset + bytes.length;
+        slots[index] = ++size;
+        if (size * 2 > slots.length) {
+            rehash();
+        }
+        return size - 1;
+    }
+
+    String get(int id) {
+        if (id == NULL) {
+            return null;
+        }
+        return new String(heap, offsets[id], offsets[id + 1] - offsets[id], StandardCharsets.UTF_8);
+    }
+
+    int size() {
+        return size;
+    }
+
+    synchronized void write(DataOutput out) throws IOException {
+        Varint.write(out, size);
+        for (int id = 0; id < size; id++) {
+            Varint.write(out, offsets[id + 1] - offsets[id]);
+            out.write(heap, offsets[id], offsets[id + 1] - offsets[id]);
+        }
+    }
+
+    /**
+     * @param source &#x884C;&#x5171;&#x7528;&#x7684;&#x5B57;&#x7B26;&#x4E32;&#x8868;&#xFF0C;&#x6BCF;&#x4E00;&#x884C;&#x5404;&#x81EA;&#x4F7F;&#x7528;&#x5B57;&#x7B26;&#x4E32;&#x8868;&#x65F6;&#x4E3A; null
+     */
+    static Subset subset(StringTable source) {
+        return new Subset(source);
+    }
+
+    /**
+     * &#x53EA;&#x5305;&#x542B;&#x7528;&#x5230;&#x7684;&#x6587;&#x672C;&#x7684;&#x5B50;&#x8868;&#xFF0C;&#x5199;&#x51FA; sheet &#x65F6;&#x628A;&#x5171;&#x7528;&#x8868;&#x7684;&#x7F16;&#x53F7;&#x6362;&#x6210;&#x5B50;&#x8868;&#x7684;&#x7F16;&#x53F7;&#xFF0C;&#x4E0D;&#x4FEE;&#x6539;&#x539F;&#x8868;
+     */
+    static final class Subset {
+        private final StringTable source;
+        private final StringTable table = new StringTable();
+        private int[] ids;
+
+        private Subset(StringTable source) {
+            this.source = source;
+            this.ids = new int[source == null ? 0 : Math.min(source.size, 1024)];
+        }
+
+        /**
+         * @param strings &#x7F16;&#x53F7;&#x6240;&#x5C5E;&#x7684;&#x5B57;&#x7B26;&#x4E32;&#x8868;
+         */
+        int map(StringTable strings, int id) {
+            if (id == NULL) {
+                return NULL;
+            }
+            if (strings != source) {
+                return table.intern(strings.get(id));
+            }
+            if (id >= ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(id + 1, Math.min(source.size, ids.length * 2)));
+            }
+            if (ids[id] == 0) {
+                ids[id] = table.intern(source.get(id)) + 1;
+            }
+            return ids[id] - 1;
+        }
+
+        int intern(String value) {
+            return table.intern(value);
+        }
+
+        void write(DataOutput out) throws IOException {
+            table.write(out);
+        }
+    }
+
+    /**
+     * &#x6309;&#x5199;&#x5165;&#x987A;&#x5E8F;&#x91CD;&#x65B0;&#x767B;&#x8BB0;&#xFF0C;&#x7F16;&#x53F7;&#x548C;&#x5199;&#x5165;&#x65F6;&#x76F8;&#x540C;
+     */
+    static StringTable read(ByteBuffer buffer) {
+        StringTable table = new StringTable();
+        int size = Varint.read(buffer);
+        for (int id = 0; id < size; id++) {
+            byte[] bytes = new byte[Varint.read(buffer)];
+            buffer.get(bytes);
+            table.intern(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return table;
+    }
+
+    private void rehash() {
+        int[] table = new int[slots.length * 2];
+        int mask = table.length - 1;
+        for (int id = 0; id < size; id++) {
+            int index = hashes[id] & mask;
+            while (table[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            table[index] = id + 1;
+        }
+        slots = table;
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.codert96.excel.diy;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * &#x65E0;&#x7B26;&#x53F7; LEB128&#xFF0C;&#x6BCF;&#x4E2A;&#x5B57;&#x8282;&#x4F4E; 7 &#x4F4D;&#x5B58;&#x6570;&#xFF0C;&#x6700;&#x9AD8;&#x4F4D;&#x8868;&#x793A;&#x540E;&#x9762;&#x8FD8;&#x6709;&#x5B57;&#x8282;&#xFF0C;&#x5C0F;&#x4E8E; 128 &#x7684;&#x503C;&#x53EA;&#x5360;&#x4E00;&#x4E2A;&#x5B57;&#x8282;
+ */
+final class Varint {
+
+    private Varint() {
+    }
+
+    static void write(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int read(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("varint 格式错误");
+    }
+}
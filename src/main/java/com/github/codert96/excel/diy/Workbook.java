@@ -1,26 +1,113 @@
 package com.github.codert96.excel.diy;
 
 import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.enums.CellDataTypeEnum;
 import com.alibaba.excel.enums.CellExtraTypeEnum;
 import com.alibaba.excel.event.AnalysisEventListener;
 import com.alibaba.excel.metadata.CellExtra;
 import com.alibaba.excel.metadata.data.CellData;
+import com.alibaba.excel.metadata.data.DataFormatData;
 import com.alibaba.excel.metadata.data.FormulaData;
+import com.alibaba.excel.metadata.data.ReadCellData;
 import com.alibaba.excel.read.metadata.holder.ReadSheetHolder;
-import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
+import com.alibaba.excel.util.DateUtils;
+import com.github.codert96.excel.exceptions.ExcelStorageException;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.lang.ref.SoftReference;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Slf4j
-@EqualsAndHashCode(callSuper = false)
-public class Workbook extends AnalysisEventListener<Map<Integer, String>> implements Map<Integer, Sheet>, Serializable {
-    private final Map<Integer, Sheet> excel = new HashMap<>();
+public class Workbook extends AnalysisEventListener<Map<Integer, String>> implements Map<Integer, Sheet>, Serializable, Closeable {
+    private static final double DATE_1904_OFFSET = 1462;
+    private final Map<Integer, Sheet> excel = new TreeMap<>();
+    private final StringTable strings = new StringTable();
+    private final boolean lazyMerge;
+    private final transient SheetConsumer sheetConsumer;
+    private final transient RowConsumer rowConsumer;
+    private final transient SheetStore store;
+    private final transient Map<Integer, SheetStore.Page> pages = new TreeMap<>();
+    private final transient Map<Integer, SoftReference<Sheet>> loaded = new HashMap<>();
+
+    public Workbook() {
+        this(false);
+    }
+
+    /**
+     * @param lazyMerge &#x5408;&#x5E76;&#x533A;&#x57DF;&#x5185;&#x7684;&#x7A7A;&#x5355;&#x5143;&#x683C;&#x4E0D;&#x5199;&#x5165;&#xFF0C;Cell#getValue&#x3001;Row#getCell&#x3001;Sheet#getRow &#x8BFB;&#x53D6;&#x65F6;&#x4ECE;&#x5408;&#x5E76;&#x533A;&#x57DF;&#x53D6;&#x503C;&#xFF1B;
+     *                  Map &#x89C6;&#x56FE;&#xFF08;size&#x3001;values&#x3001;entrySet&#xFF09;&#x53EA;&#x5305;&#x542B;&#x6587;&#x4EF6;&#x4E2D;&#x5B9E;&#x9645;&#x5B58;&#x5728;&#x7684;&#x5355;&#x5143;&#x683C;
+     */
+    public Workbook(boolean lazyMerge) {
+        this(lazyMerge, null, null, null);
+    }
+
+    private Workbook(boolean lazyMerge, SheetConsumer sheetConsumer, RowConsumer rowConsumer, SheetStore store) {
+        this.lazyMerge = lazyMerge;
+        this.sheetConsumer = sheetConsumer;
+        this.rowConsumer = rowConsumer;
+        this.store = store;
+    }
+
+    /**
+     * &#x6309; Map &#x7684;&#x7EA6;&#x5B9A;&#x6BD4;&#x8F83;&#x6240;&#x6709; sheet&#xFF0C;&#x5305;&#x62EC;&#x5DF2;&#x7ECF;&#x5199;&#x5165;&#x78C1;&#x76D8;&#x7684; sheet
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Map<?, ?> map && size() == map.size() && entrySet().equals(map.entrySet());
+    }
+
+    @Override
+    public int hashCode() {
+        return entrySet().hashCode();
+    }
+
+    /**
+     * &#x6BCF;&#x4E2A; sheet &#x8BFB;&#x5B8C;&#xFF08;&#x5305;&#x62EC;&#x5408;&#x5E76;&#x533A;&#x57DF;&#x3001;&#x8D85;&#x94FE;&#x63A5;&#x3001;&#x6279;&#x6CE8;&#xFF09;&#x540E;&#x4EA4;&#x7ED9; consumer&#xFF0C;&#x7136;&#x540E;&#x4E22;&#x5F03;&#xFF0C;&#x5185;&#x5B58;&#x53EA;&#x4FDD;&#x7559;&#x5F53;&#x524D; sheet
+     */
+    public static Workbook streamSheets(SheetConsumer consumer) {
+        return streamSheets(false, consumer);
+    }
+
+    public static Workbook streamSheets(boolean lazyMerge, SheetConsumer consumer) {
+        return new Workbook(lazyMerge, Objects.requireNonNull(consumer), null, null);
+    }
+
+    /**
+     * &#x6BCF;&#x89E3;&#x6790;&#x5B8C;&#x4E00;&#x884C;&#x4EA4;&#x7ED9; consumer&#xFF0C;&#x7136;&#x540E;&#x4E22;&#x5F03;&#x3002;&#x6BCF;&#x4E00;&#x884C;&#x53EA;&#x4FDD;&#x5B58;&#x81EA;&#x5DF1;&#x7684;&#x6587;&#x672C;&#xFF0C;&#x5185;&#x5B58;&#x5360;&#x7528;&#x548C; sheet &#x5927;&#x5C0F;&#x65E0;&#x5173;&#xFF0C;
+     * consumer &#x4FDD;&#x7559;&#x7684;&#x884C;&#x5728;&#x56DE;&#x8C03;&#x8FD4;&#x56DE;&#x540E;&#x4ECD;&#x7136;&#x6709;&#x6548;&#xFF0C;&#x4F46;&#x4F1A;&#x4E00;&#x76F4;&#x5360;&#x7528;&#x5185;&#x5B58;&#x3002;
+     * &#x5408;&#x5E76;&#x533A;&#x57DF;&#x3001;&#x8D85;&#x94FE;&#x63A5;&#x3001;&#x6279;&#x6CE8;&#x5728; sheet &#x672B;&#x5C3E;&#x624D;&#x4E0A;&#x62A5;&#xFF0C;&#x6B64;&#x65F6;&#x884C;&#x5DF2;&#x7ECF;&#x4EA4;&#x4ED8;&#xFF0C;&#x9700;&#x8981;&#x8FD9;&#x4E9B;&#x4FE1;&#x606F;&#x65F6;&#x7528; {@link #streamSheets(SheetConsumer)}
+     */
+    public static Workbook streamRows(RowConsumer consumer) {
+        return new Workbook(false, null, Objects.requireNonNull(consumer), null);
+    }
+
+    /**
+     * &#x8BFB;&#x5B8C;&#x7684; sheet &#x5199;&#x5165; directory &#x4E0B;&#x7684;&#x4E34;&#x65F6;&#x6587;&#x4EF6;&#xFF0C;getSheetAt &#x7B49;&#x65B9;&#x6CD5;&#x8BBF;&#x95EE;&#x65F6;&#x518D;&#x6620;&#x5C04;&#x56DE;&#x5185;&#x5B58;&#xFF0C;
+     * &#x5185;&#x5B58;&#x7D27;&#x5F20;&#x65F6;&#x5DF2;&#x52A0;&#x8F7D;&#x7684; sheet &#x53EF;&#x88AB;&#x56DE;&#x6536;&#x3002;&#x7528;&#x5B8C;&#x540E;&#x8C03;&#x7528; {@link #close()} &#x5220;&#x9664;&#x4E34;&#x65F6;&#x6587;&#x4EF6;
+     */
+    public static Workbook spilling(Path directory) {
+        return spilling(false, directory);
+    }
+
+    public static Workbook spilling(boolean lazyMerge, Path directory) {
+        try {
+            return new Workbook(lazyMerge, null, null, new SheetStore(directory));
+        } catch (IOException e) {
+            throw new ExcelStorageException(e);
+        }
+    }
 
     @Override
     public void invoke(Map<Integer, String> data, AnalysisContext context) {
@@ -30,33 +117,112 @@ public class Workbook extends AnalysisEventListener<Map<Integer, String>> implem
         String sheetName = currentReadHolder.getSheetName();
         int sheetNo = currentReadHolder.getSheetNo();
 
+        // 1904 日期系统的序号换算成 1900 日期系统保存
+        double dateOffset = Boolean.TRUE.equals(currentReadHolder.globalConfiguration().getUse1904windowing()) ? DATE_1904_OFFSET : 0;
         context.readRowHolder().getCellMap().forEach((k, cell) -> {
-            CellData<?> cellData = (CellData<?>) cell;
-            put(sheetNo, sheetName, cell.getRowIndex(), cell.getColumnIndex(), cellData.getStringValue())
-                    .setFormula(
-                            Optional.of(cellData).map(CellData::getFormulaData)
-                                    .map(FormulaData::getFormulaValue).orElse(null)
-                    )
-            ;
+            ReadCellData<?> cellData = (ReadCellData<?>) cell;
+            Cell target;
+            if (CellDataTypeEnum.NUMBER.equals(cellData.getType()) && cellData.getNumberValue() != null) {
+                double number = cellData.getNumberValue().doubleValue();
+                DataFormatData format = cellData.getDataFormatData();
+                Row row = sheet(sheetNo, sheetName).row(cell.getRowIndex());
+                if (format != null && DateUtils.isADateFormat(format.getIndex(), format.getFormat())) {
+                    row.number(cell.getColumnIndex(), Row.DATE, number + dateOffset, data.get(k));
+                } else {
+                    row.number(cell.getColumnIndex(), Row.NUMBER, number, null);
+                }
+                target = row.getCell(cell.getColumnIndex());
+            } else {
+                String value = cellData.getStringValue();
+                target = put(sheetNo, sheetName, cell.getRowIndex(), cell.getColumnIndex(), value != null ? value : data.get(k));
+            }
+            target.setFormula(
+                    Optional.of(cellData).map(CellData::getFormulaData)
+                            .map(FormulaData::getFormulaValue).orElse(null)
+            );
         });
+        Sheet sheet = excel.get(sheetNo);
+        if (sheet == null) {
+            return;
+        }
+        Integer rowindex = context.readRowHolder().getRowIndex();
+        if (rowConsumer != null) {
+            Optional.ofNullable(sheet.remove(rowindex)).ifPresent(this::accept);
+        } else {
+            Optional.ofNullable(sheet.get(rowindex)).ifPresent(Row::trimToSize);
+        }
+    }
+
+    @SneakyThrows
+    private void accept(Row row) {
+        row.trimToSize();
+        rowConsumer.accept(row);
     }
 
     private Cell put(int sheetIndex, String sheetName, int rowindex, int colindex, String value) {
-        return excel.computeIfAbsent(sheetIndex, it -> new Sheet(it, sheetName))
-                .computeIfAbsent(rowindex, it -> new Row(sheetIndex, sheetName, it))
-                .computeIfAbsent(colindex, it -> new Cell(sheetIndex, sheetName, rowindex, colindex))
+        return sheet(sheetIndex, sheetName)
+                .row(rowindex)
+                .cell(colindex)
                 .setValue(value);
     }
 
+    /**
+     * EasyExcel &#x6BCF;&#x8BFB;&#x5B8C;&#x4E00;&#x4E2A; sheet &#x8C03;&#x7528;&#x4E00;&#x6B21;&#xFF0C;&#x8FD9;&#x65F6;&#x8BE5; sheet &#x7684;&#x5408;&#x5E76;&#x533A;&#x57DF;&#x3001;&#x8D85;&#x94FE;&#x63A5;&#x3001;&#x6279;&#x6CE8;&#x90FD;&#x5DF2;&#x4E0A;&#x62A5;
+     */
     @Override
+    @SneakyThrows
     public void doAfterAllAnalysed(AnalysisContext context) {
+        ReadSheetHolder currentReadHolder = context.readSheetHolder();
+        if (sheetConsumer != null) {
+            Sheet sheet = sheet(currentReadHolder.getSheetNo(), currentReadHolder.getSheetName());
+            excel.remove(sheet.getSheetIndex());
+            sheetConsumer.accept(sheet);
+        } else if (rowConsumer != null) {
+            excel.remove(currentReadHolder.getSheetNo());
+        } else if (store != null) {
+            Sheet sheet = excel.remove(currentReadHolder.getSheetNo());
+            if (sheet != null) {
+                try {
+                    pages.put(sheet.getSheetIndex(), store.write(sheet));
+                } catch (IOException e) {
+                    throw new ExcelStorageException(e);
+                }
+                log.debug("sheet 已写入临时文件：{}", sheet.getSheetName());
+            }
+        }
+    }
+
+    /**
+     * &#x5199;&#x51FA;&#x4E8C;&#x8FDB;&#x5236;&#x5FEB;&#x7167;&#xFF0C;&#x7528; {@link #readFrom(Path)} &#x6216; {@link WorkbookSnapshot#open(Path)} &#x8BFB;&#x56DE;&#xFF0C;&#x4E0D;&#x5173;&#x95ED; outputStream
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        WorkbookSnapshot.write(outputStream, lazyMerge, values());
+    }
+
+    public static Workbook readFrom(Path path) throws IOException {
+        try (WorkbookSnapshot snapshot = WorkbookSnapshot.open(path)) {
+            return snapshot.toWorkbook();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (store != null) {
+            pages.clear();
+            loaded.clear();
+            store.close();
+        }
     }
 
     @Override
     public void extra(CellExtra extra, AnalysisContext context) {
         ReadSheetHolder currentReadHolder = (ReadSheetHolder) context.currentReadHolder();
 
-        Sheet sheet = getSheetAt(currentReadHolder.getSheetNo());
+        if (rowConsumer != null) {
+            // 行已经交付，只能忽略
+            return;
+        }
+        Sheet sheet = sheet(currentReadHolder.getSheetNo(), currentReadHolder.getSheetName());
 
         if (CellExtraTypeEnum.MERGE.equals(extra.getType())) {
             Sheet.Merge merge = sheet.put(
@@ -67,55 +233,63 @@ public class Workbook extends AnalysisEventListener<Map<Integer, String>> implem
                             extra.getLastColumnIndex()
                     )
             );
-            CellExtraEach rangeForeach = new CellExtraEach(sheet, extra);
-
-            AtomicReference<Cell> atomicReference = new AtomicReference<>();
-
-            rangeForeach.accept((rowindex, colindex, cell) -> {
-                if (cell != null && cell.getValue() != null) {
-                    atomicReference.set(cell);
-                }
-            });
-
-            if (Objects.nonNull(atomicReference.get())) {
-                Cell ref = atomicReference.get();
+            Cell ref = reference(sheet, extra);
+            if (Objects.nonNull(ref)) {
                 merge.setValue(ref.getValue())
                         .setLink(ref.getLink())
                         .setComment(ref.getComment())
                         .setFormula(ref.getFormula());
-                rangeForeach.accept((rowindex, colindex, cell) -> {
-                    if (cell == null) {
-                        put(ref.getSheetIndex(), ref.getSheetName(), rowindex, colindex, ref.getValue())
-                                .setLink(ref.getLink())
-                                .setComment(ref.getComment())
-                                .setFormula(ref.getFormula());
-                    } else if (cell.getValue() == null) {
-                        cell.setValue(ref.getValue())
-                                .setLink(ref.getLink())
-                                .setComment(ref.getComment())
-                                .setFormula(ref.getFormula());
+                if (!lazyMerge) {
+                    for (int i = extra.getFirstRowIndex(); i <= extra.getLastRowIndex(); i++) {
+                        sheet.row(i).fill(extra.getFirstColumnIndex(), extra.getLastColumnIndex(), ref);
                     }
-                });
+                }
             }
         } else if (CellExtraTypeEnum.HYPERLINK.equals(extra.getType())) {
-            CellExtraEach rangeForeach = new CellExtraEach(sheet, extra);
-            rangeForeach.accept(
-                    (rowindex, colindex, cell) -> {
-                        cell.setLink(extra.getText());
-                    }
-            );
+            forEach(sheet, extra, cell -> cell.setLink(extra.getText()));
         } else if (CellExtraTypeEnum.COMMENT.equals(extra.getType())) {
-            CellExtraEach rangeForeach = new CellExtraEach(sheet, extra);
-            rangeForeach.accept(
-                    (rowindex, colindex, cell) -> {
-                        cell.setLink(extra.getText());
-                    }
-            );
+            forEach(sheet, extra, cell -> cell.setComment(extra.getText()));
+        }
+    }
+
+    private Sheet sheet(int sheetIndex, String sheetName) {
+        // sheet 读完后不再保留时各自使用字符串表，丢弃 sheet 时一起释放；逐行交付时每一行各自使用字符串表
+        StringTable table = retained() ? strings : rowConsumer == null ? new StringTable() : null;
+        return excel.computeIfAbsent(sheetIndex, it -> new Sheet(it, sheetName, table, lazyMerge));
+    }
+
+    private boolean retained() {
+        return sheetConsumer == null && rowConsumer == null && store == null;
+    }
+
+    /**
+     * &#x5408;&#x5E76;&#x533A;&#x57DF;&#x5185;&#x6309;&#x884C;&#x3001;&#x5217;&#x987A;&#x5E8F;&#x6700;&#x540E;&#x4E00;&#x4E2A;&#x6709;&#x503C;&#x7684;&#x5355;&#x5143;&#x683C;&#xFF0C;&#x4ECE;&#x53F3;&#x4E0B;&#x89D2;&#x5F00;&#x59CB;&#x627E;&#xFF0C;&#x53EA;&#x8BBF;&#x95EE;&#x5DF2;&#x6709;&#x7684;&#x884C;
+     */
+    private static Cell reference(Sheet sheet, CellExtra extra) {
+        for (int i = extra.getLastRowIndex(); i >= extra.getFirstRowIndex(); i--) {
+            Row row = sheet.get(i);
+            if (row == null) {
+                continue;
+            }
+            int colindex = row.lastValued(extra.getFirstColumnIndex(), extra.getLastColumnIndex());
+            if (colindex >= 0) {
+                return row.getCell(colindex);
+            }
+        }
+        return null;
+    }
+
+    private static void forEach(Sheet sheet, CellExtra extra, Consumer<Cell> consumer) {
+        for (int i = extra.getFirstRowIndex(); i <= extra.getLastRowIndex(); i++) {
+            Row row = sheet.row(i);
+            for (int j = extra.getFirstColumnIndex(); j <= extra.getLastColumnIndex(); j++) {
+                consumer.accept(row.cell(j));
+            }
         }
     }
 
     public Collection<Sheet> getSheets() {
-        return excel.values();
+        return values();
     }
 
     public Sheet getSheetAt(int index) {
@@ -123,105 +297,190 @@ public class Workbook extends AnalysisEventListener<Map<Integer, String>> implem
     }
 
     public Sheet getSheet(String name) {
-        return getSheet(sheet -> name.equals(sheet.getSheetName()));
+        return keySet().stream()
+                .filter(key -> name.equals(sheetName(key)))
+                .findFirst()
+                .map(this::get)
+                .orElse(null);
     }
 
     public Sheet getSheet(Predicate<Sheet> predicate) {
-        return excel.values().stream().filter(predicate).findFirst().orElse(null);
+        return values().stream().filter(predicate).findFirst().orElse(null);
     }
 
     public List<Sheet> getSheets(Predicate<Sheet> predicate) {
-        return excel.values().stream().filter(predicate).collect(Collectors.toCollection(LinkedList::new));
+        return values().stream().filter(predicate).collect(Collectors.toCollection(ArrayList::new));
     }
 
     public List<String> getSheetNames() {
-        return excel.values()
-                .stream()
-                .map(Sheet::getSheetName)
-                .collect(Collectors.toCollection(LinkedList::new));
+        return keySet().stream()
+                .map(this::sheetName)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private String sheetName(Integer key) {
+        Sheet sheet = excel.get(key);
+        return sheet != null ? sheet.getSheetName() : pages.get(key).sheetName();
+    }
+
+    /**
+     * &#x5DF2;&#x5199;&#x5165;&#x4E34;&#x65F6;&#x6587;&#x4EF6;&#x7684; sheet &#x6620;&#x5C04;&#x56DE;&#x5185;&#x5B58;&#xFF0C;&#x7528;&#x8F6F;&#x5F15;&#x7528;&#x7F13;&#x5B58;
+     */
+    private synchronized Sheet load(Integer key) {
+        Sheet sheet = Optional.ofNullable(loaded.get(key)).map(SoftReference::get).orElse(null);
+        if (sheet == null) {
+            try {
+                sheet = store.read(pages.get(key));
+            } catch (IOException e) {
+                throw new ExcelStorageException(e);
+            }
+            loaded.put(key, new SoftReference<>(sheet));
+        }
+        return sheet;
     }
 
     @Override
     public int size() {
-        return excel.size();
+        return excel.size() + pages.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return excel.isEmpty();
+        return excel.isEmpty() && pages.isEmpty();
     }
 
     @Override
     public boolean containsKey(Object key) {
-        return excel.containsKey(key);
+        return excel.containsKey(key) || pages.containsKey(key);
     }
 
     @Override
     public boolean containsValue(Object value) {
-        return excel.containsValue(value);
+        return values().contains(value);
     }
 
     @Override
     public Sheet get(Object key) {
-        return excel.get(key);
+        Sheet sheet = excel.get(key);
+        if (sheet == null && pages.containsKey(key)) {
+            return load((Integer) key);
+        }
+        return sheet;
     }
 
     @Override
     public Sheet put(Integer key, Sheet value) {
-        return excel.put(key, value);
+        Sheet previous = remove(key);
+        excel.put(key, value);
+        return previous;
     }
 
     @Override
     public Sheet remove(Object key) {
-        return excel.remove(key);
+        Sheet sheet = get(key);
+        excel.remove(key);
+        pages.remove(key);
+        loaded.remove(key);
+        return sheet;
     }
 
     @Override
     public void putAll(Map<? extends Integer, ? extends Sheet> m) {
-        excel.putAll(m);
+        m.forEach(this::put);
     }
 
     @Override
     public void clear() {
         excel.clear();
+        pages.clear();
+        loaded.clear();
     }
 
     @Override
     public Set<Integer> keySet() {
-        return excel.keySet();
+        if (pages.isEmpty()) {
+            return excel.keySet();
+        }
+        Set<Integer> keys = new TreeSet<>(excel.keySet());
+        keys.addAll(pages.keySet());
+        return Collections.unmodifiableSet(keys);
     }
 
     @Override
     public Collection<Sheet> values() {
-        return excel.values();
+        if (pages.isEmpty()) {
+            return excel.values();
+        }
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Sheet> iterator() {
+                Iterator<Integer> keys = keySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public Sheet next() {
+                        return get(keys.next());
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return Workbook.this.size();
+            }
+        };
     }
 
     @Override
     public Set<Entry<Integer, Sheet>> entrySet() {
-        return excel.entrySet();
-    }
-
-    @RequiredArgsConstructor
-    private static class CellExtraEach {
-        private final Sheet sheet;
-        private final CellExtra extra;
-
-        public void accept(EachCell eachCell) {
-            for (int i = extra.getFirstRowIndex(); i <= extra.getLastRowIndex(); i++) {
-                for (int j = extra.getFirstColumnIndex(); j <= extra.getLastColumnIndex(); j++) {
-                    Row row = sheet.getRow(i);
-                    if (row != null) {
-                        Cell cell = row.getCell(j);
-                        eachCell.accept(i, j, cell);
-                    } else {
-                        eachCell.accept(i, j, null);
+        if (pages.isEmpty()) {
+            return excel.entrySet();
+        }
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Integer, Sheet>> iterator() {
+                Iterator<Integer> keys = keySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
                     }
-                }
+
+                    @Override
+                    public Entry<Integer, Sheet> next() {
+                        Integer key = keys.next();
+                        return new AbstractMap.SimpleImmutableEntry<>(key, get(key));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return Workbook.this.size();
             }
+        };
+    }
+
+    /**
+     * &#x5E8F;&#x5217;&#x5316;&#x65F6;&#x5DF2;&#x5199;&#x5165;&#x4E34;&#x65F6;&#x6587;&#x4EF6;&#x7684; sheet &#x4E00;&#x8D77;&#x5199;&#x51FA;&#xFF0C;&#x53CD;&#x5E8F;&#x5217;&#x5316;&#x540E;&#x662F;&#x666E;&#x901A;&#x7684; Workbook
+     */
+    private Object writeReplace() {
+        if (pages.isEmpty()) {
+            return this;
         }
+        Workbook workbook = new Workbook(lazyMerge);
+        workbook.excel.putAll(excel);
+        pages.keySet().forEach(key -> workbook.excel.put(key, load(key)));
+        return workbook;
     }
 
-    private interface EachCell {
-        void accept(int rowindex, int colindex, Cell cell);
+    private Object readResolve() {
+        Workbook workbook = new Workbook(lazyMerge);
+        workbook.excel.putAll(excel);
+        return workbook;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,168 @@
+package com.github.codert96.excel.diy;
+
+import lombok.Getter;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * {@link Workbook#writeTo(OutputStream)} &#x5199;&#x51FA;&#x7684;&#x5FEB;&#x7167;&#x6587;&#x4EF6;&#xFF0C;&#x6253;&#x5F00;&#x65F6;&#x53EA;&#x8BFB;&#x76EE;&#x5F55;&#xFF0C;&#x8BBF;&#x95EE; sheet &#x65F6;&#x518D;&#x6620;&#x5C04;&#x5BF9;&#x5E94;&#x533A;&#x95F4;&#x89E3;&#x7801;&#x3002;
+ * &#x6587;&#x4EF6;&#x7ED3;&#x6784;&#xFF1A;&#x5934;&#xFF08;&#x9B54;&#x6570;&#x3001;&#x7248;&#x672C;&#x3001;lazyMerge&#xFF09;&#x3001;&#x5404; sheet&#x3001;&#x76EE;&#x5F55;&#xFF08;&#x5E8F;&#x53F7;&#x3001;&#x540D;&#x79F0;&#x3001;&#x4F4D;&#x7F6E;&#x3001;&#x957F;&#x5EA6;&#xFF09;&#x3001;&#x5C3E;&#xFF08;&#x76EE;&#x5F55;&#x4F4D;&#x7F6E;&#x3001;&#x9B54;&#x6570;&#xFF09;
+ */
+public final class WorkbookSnapshot implements Closeable {
+    private static final int MAGIC = 0x44495957;
+    private static final byte VERSION = 1;
+    private static final int HEADER = Integer.BYTES + 2;
+    private static final int TRAILER = Long.BYTES + Integer.BYTES;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    @Getter
+    private final boolean lazyMerge;
+    private final Map<Integer, Entry> entries;
+
+    private WorkbookSnapshot(FileChannel channel, boolean lazyMerge, Map<Integer, Entry> entries) {
+        this.channel = channel;
+        this.lazyMerge = lazyMerge;
+        this.entries = entries;
+    }
+
+    public static WorkbookSnapshot open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < HEADER + TRAILER) {
+                throw new IOException("不是 Workbook 快照文件：" + path);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER);
+            ByteBuffer trailer = channel.map(FileChannel.MapMode.READ_ONLY, size - TRAILER, TRAILER);
+            long directory = trailer.getLong();
+            if (header.getInt() != MAGIC || trailer.getInt() != MAGIC || directory < HEADER || directory > size - TRAILER) {
+                throw new IOException("不是 Workbook 快照文件：" + path);
+            }
+            byte version = header.get();
+            if (version != VERSION) {
+                throw new IOException("不支持的快照版本：" + version);
+            }
+            boolean lazyMerge = header.get() != 0;
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, directory, size - TRAILER - directory);
+            Map<Integer, Entry> entries = new LinkedHashMap<>();
+            for (int i = Varint.read(buffer); i > 0; i--) {
+                int sheetIndex = Varint.read(buffer);
+                int length = Varint.read(buffer);
+                String sheetName = null;
+                if (length > 0) {
+                    byte[] name = new byte[length - 1];
+                    buffer.get(name);
+                    sheetName = new String(name, StandardCharsets.UTF_8);
+                }
+                entries.put(sheetIndex, new Entry(sheetIndex, sheetName, buffer.getLong(), buffer.getInt()));
+            }
+            return new WorkbookSnapshot(channel, lazyMerge, entries);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    static void write(OutputStream outputStream, boolean lazyMerge, Collection<Sheet> sheets) throws IOException {
+        CountingOutputStream counter = new CountingOutputStream(new BufferedOutputStream(outputStream, BUFFER_SIZE));
+        DataOutputStream out = new DataOutputStream(counter);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeBoolean(lazyMerge);
+        List<Entry> entries = new ArrayList<>(sheets.size());
+        for (Sheet sheet : sheets) {
+            long offset = counter.count;
+            sheet.write(out);
+            long length = counter.count - offset;
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("sheet 过大：" + sheet.getSheetName());
+            }
+            entries.add(new Entry(sheet.getSheetIndex(), sheet.getSheetName(), offset, (int) length));
+        }
+        long directory = counter.count;
+        Varint.write(out, entries.size());
+        for (Entry entry : entries) {
+            Varint.write(out, entry.sheetIndex());
+            byte[] name = entry.sheetName() == null ? new byte[0] : entry.sheetName().getBytes(StandardCharsets.UTF_8);
+            Varint.write(out, entry.sheetName() == null ? 0 : name.length + 1);
+            out.write(name);
+            out.writeLong(entry.offset());
+            out.writeInt(entry.length());
+        }
+        out.writeLong(directory);
+        out.writeInt(MAGIC);
+        out.flush();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public Set<Integer> getSheetIndexes() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    public List<String> getSheetNames() {
+        return entries.values().stream().map(Entry::sheetName).toList();
+    }
+
+    /**
+     * &#x53EA;&#x89E3;&#x7801;&#x8FD9;&#x4E00;&#x4E2A; sheet&#xFF0C;&#x4E0D;&#x5B58;&#x5728;&#x65F6;&#x8FD4;&#x56DE; null
+     */
+    public Sheet getSheetAt(int index) throws IOException {
+        Entry entry = entries.get(index);
+        return entry == null ? null : Sheet.read(channel.map(FileChannel.MapMode.READ_ONLY, entry.offset(), entry.length()));
+    }
+
+    public Sheet getSheet(String name) throws IOException {
+        for (Entry entry : entries.values()) {
+            if (Objects.equals(name, entry.sheetName())) {
+                return getSheetAt(entry.sheetIndex());
+            }
+        }
+        return null;
+    }
+
+    public Workbook toWorkbook() throws IOException {
+        Workbook workbook = new Workbook(lazyMerge);
+        for (Integer index : entries.keySet()) {
+            workbook.put(index, getSheetAt(index));
+        }
+        return workbook;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private record Entry(int sheetIndex, String sheetName, long offset, int length) {
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
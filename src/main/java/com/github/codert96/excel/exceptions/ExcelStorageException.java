@@ -0,0 +1,11 @@
+package com.github.codert96.excel.exceptions;
+
+public class ExcelStorageException extends RuntimeException {
+    public ExcelStorageException(String message) {
+        super(message);
+    }
+
+    public ExcelStorageException(Throwable cause) {
+        super(cause);
+    }
+}
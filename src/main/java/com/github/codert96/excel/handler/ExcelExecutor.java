@@ -0,0 +1,132 @@
+package com.github.codert96.excel.handler;
+
+import com.github.codert96.excel.config.EasyExcelProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.*;
+
+/**
+ * &#x89E3;&#x6790;&#x3001;&#x6821;&#x9A8C;&#x3001;&#x5BFC;&#x51FA;&#x5171;&#x7528;&#x7684;&#x6709;&#x754C;&#x7EBF;&#x7A0B;&#x6C60;&#xFF0C;&#x8FD0;&#x884C;&#x73AF;&#x5883;&#x652F;&#x6301;&#x65F6;&#x4F7F;&#x7528;&#x865A;&#x62DF;&#x7EBF;&#x7A0B;
+ */
+@Slf4j
+class ExcelExecutor {
+    private final EasyExcelProperties.Executor properties;
+    private final EasyExcelProperties.Async async;
+    private volatile ExecutorService executorService;
+    private volatile ThreadPoolTaskExecutor exportExecutor;
+    private volatile ExecutorService readerExecutor;
+
+    ExcelExecutor(EasyExcelProperties.Executor properties, EasyExcelProperties.Async async) {
+        this.properties = properties;
+        this.async = async;
+    }
+
+    private static ThreadFactory threadFactory(String prefix, boolean virtualThreads) {
+        if (virtualThreads) {
+            try {
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+                builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 1L);
+                return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            } catch (ReflectiveOperationException e) {
+                log.debug("当前运行环境不支持虚拟线程，使用平台线程");
+            }
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    int parallelism() {
+        return Math.max(properties.getParallelism(), 1);
+    }
+
+    ExecutorService get() {
+        if (executorService == null) {
+            synchronized (this) {
+                if (executorService == null) {
+                    // 队列满时在调用线程上运行，提交方自己承担超出的工作；关闭后拒绝，避免 Future 永远不完成
+                    ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                            parallelism(), parallelism(),
+                            60, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(Math.max(properties.getQueueCapacity(), 1)),
+                            threadFactory("excel-worker-", properties.isVirtualThreads()),
+                            (runnable, executor) -> {
+                                if (executor.isShutdown()) {
+                                    throw new RejectedExecutionException("解析线程池已关闭");
+                                }
+                                runnable.run();
+                            }
+                    );
+                    threadPoolExecutor.allowCoreThreadTimeOut(true);
+                    executorService = threadPoolExecutor;
+                }
+            }
+        }
+        return executorService;
+    }
+
+    /**
+     * &#x751F;&#x6210;&#x5BFC;&#x51FA;&#x6587;&#x4EF6;&#x7684;&#x6709;&#x754C;&#x7EBF;&#x7A0B;&#x6C60;&#xFF0C;&#x548C;&#x89E3;&#x6790;&#x7528;&#x7684;&#x7EBF;&#x7A0B;&#x6C60;&#x5206;&#x5F00;&#xFF0C;&#x961F;&#x5217;&#x6EE1;&#x65F6;&#x62D2;&#x7EDD;
+     */
+    AsyncTaskExecutor export() {
+        if (exportExecutor == null) {
+            synchronized (this) {
+                if (exportExecutor == null) {
+                    ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+                    taskExecutor.setCorePoolSize(Math.max(async.getPoolSize(), 1));
+                    taskExecutor.setMaxPoolSize(Math.max(async.getPoolSize(), 1));
+                    taskExecutor.setQueueCapacity(Math.max(async.getQueueCapacity(), 0));
+                    taskExecutor.setAllowCoreThreadTimeOut(true);
+                    taskExecutor.setThreadFactory(threadFactory("excel-export-", properties.isVirtualThreads()));
+                    taskExecutor.initialize();
+                    exportExecutor = taskExecutor;
+                }
+            }
+        }
+        return exportExecutor;
+    }
+
+    /**
+     * &#x9010;&#x884C;&#x8BFB;&#x53D6;&#x7684;&#x89E3;&#x6790;&#x4EFB;&#x52A1;&#xFF0C;&#x7EBF;&#x7A0B;&#x6570;&#x548C; parallelism &#x76F8;&#x540C;&#xFF0C;&#x8D85;&#x51FA;&#x7684;&#x8BFB;&#x53D6;&#x6392;&#x961F;&#x7B49;&#x5F85;&#xFF0C;&#x6392;&#x961F;&#x7684;&#x8BFB;&#x53D6;&#x8FBE;&#x5230; queueCapacity &#x4E2A;&#x65F6;&#x62D2;&#x7EDD;&#xFF1B;
+     * &#x89E3;&#x6790;&#x4EFB;&#x52A1;&#x4F1A;&#x7B49;&#x5F85;&#x8C03;&#x7528;&#x65B9;&#x6D88;&#x8D39;&#xFF0C;&#x4E0D;&#x80FD;&#x5728;&#x8C03;&#x7528;&#x7EBF;&#x7A0B;&#x4E0A;&#x8FD0;&#x884C;&#xFF0C;&#x6240;&#x4EE5;&#x548C; get() &#x5206;&#x5F00;
+     */
+    ExecutorService reader() {
+        if (readerExecutor == null) {
+            synchronized (this) {
+                if (readerExecutor == null) {
+                    ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                            parallelism(), parallelism(),
+                            60, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(Math.max(properties.getQueueCapacity(), 1)),
+                            threadFactory("excel-reader-", properties.isVirtualThreads()),
+                            (runnable, executor) -> {
+                                throw new RejectedExecutionException(executor.isShutdown() ? "逐行读取线程池已关闭" : "等待解析的逐行读取已达 " + properties.getQueueCapacity() + " 个，拒绝本次读取");
+                            }
+                    );
+                    threadPoolExecutor.allowCoreThreadTimeOut(true);
+                    readerExecutor = threadPoolExecutor;
+                }
+            }
+        }
+        return readerExecutor;
+    }
+
+    /**
+     * &#x968F;&#x5E94;&#x7528;&#x5173;&#x95ED;&#xFF0C;&#x4E2D;&#x65AD;&#x672A;&#x5B8C;&#x6210;&#x7684;&#x4EFB;&#x52A1;
+     */
+    synchronized void shutdown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+        if (readerExecutor != null) {
+            readerExecutor.shutdownNow();
+        }
+        if (exportExecutor != null) {
+            exportExecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.github.codert96.excel.handler;
+
+import com.alibaba.excel.converters.Converter;
+import com.alibaba.excel.converters.ConverterKeyBuild;
+import com.alibaba.excel.enums.CacheLocationEnum;
+import com.alibaba.excel.enums.HolderEnum;
+import com.alibaba.excel.metadata.ConfigurationHolder;
+import com.alibaba.excel.metadata.GlobalConfiguration;
+import com.alibaba.excel.util.ClassUtils;
+import com.github.codert96.excel.config.EasyExcelProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.temporal.Temporal;
+import java.util.*;
+
+/**
+ * &#x5BFC;&#x51FA;&#x7ED3;&#x679C;&#x7F13;&#x5B58;&#xFF0C;&#x6309;&#x65B9;&#x6CD5;&#x548C;&#x8FD4;&#x56DE;&#x6570;&#x636E;&#x7684;&#x6458;&#x8981;&#x67E5;&#x627E;&#x5DF2;&#x751F;&#x6210;&#x7684;&#x6587;&#x4EF6;&#xFF0C;&#x6309;&#x6700;&#x8FD1;&#x6700;&#x5C11;&#x4F7F;&#x7528;&#x6DD8;&#x6C70;&#xFF0C;&#x540C;&#x65F6;&#x9650;&#x5236;&#x6761;&#x6570;&#x548C;&#x603B;&#x5B57;&#x8282;&#x6570;
+ */
+@Slf4j
+@RequiredArgsConstructor
+class ExcelExportCache {
+    private final EasyExcelProperties.ExportCache properties;
+    private final LinkedHashMap<Key, Entry> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    private static final int MAX_DEPTH = 8;
+    private static final Map<Class<?>, List<Field>> WRITE_FIELDS = new ConcurrentReferenceHashMap<>();
+    private static final Map<Class<?>, List<Field>> ALL_FIELDS = new ConcurrentReferenceHashMap<>();
+    private static final ConfigurationHolder FIELD_HOLDER = new ConfigurationHolder() {
+        private final GlobalConfiguration globalConfiguration = new GlobalConfiguration();
+
+        {
+            // 不使用 EasyExcel 自己的字段缓存，避免写入线程变量或长期持有用户类
+            globalConfiguration.setFiledCacheLocation(CacheLocationEnum.NONE);
+        }
+
+        @Override
+        public boolean isNew() {
+            return true;
+        }
+
+        @Override
+        public GlobalConfiguration globalConfiguration() {
+            return globalConfiguration;
+        }
+
+        @Override
+        public Map<ConverterKeyBuild.ConverterKey, Converter<?>> converterMap() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public HolderEnum holderType() {
+            return HolderEnum.WORKBOOK;
+        }
+    };
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * &#x6309; EasyExcel &#x5199;&#x51FA;&#x7684;&#x5B57;&#x6BB5;&#x8BA1;&#x7B97;&#x8FD4;&#x56DE;&#x6570;&#x636E;&#x7684; SHA-256&#xFF1A;&#x666E;&#x901A;&#x5BFC;&#x51FA;&#x4F7F;&#x7528; EasyExcel &#x7684;&#x5B57;&#x6BB5;&#x5217;&#x8868;&#xFF0C;&#x586B;&#x5145;&#x6A21;&#x677F;&#x65F6;&#x4F7F;&#x7528;&#x6240;&#x6709;&#x5B9E;&#x4F8B;&#x5B57;&#x6BB5;&#xFF1B;
+     * &#x5B57;&#x6BB5;&#x503C;&#x6309;&#x7C7B;&#x578B;&#x9012;&#x5F52;&#xFF0C;&#x65E0;&#x6CD5;&#x8BFB;&#x53D6;&#x5B57;&#x6BB5;&#x7684;&#x5BF9;&#x8C61;&#x4F7F;&#x7528; toString
+     */
+    static String digest(List<?> value, boolean fill) {
+        MessageDigest digest = sha256();
+        update(digest, value.size());
+        for (Object row : value) {
+            if (Objects.isNull(row) || isLeaf(row) || row instanceof Collection<?> || row instanceof Map<?, ?> || row.getClass().isArray()) {
+                update(digest, row, 0);
+                continue;
+            }
+            update(digest, row.getClass().getName());
+            update(digest, row, fill ? ALL_FIELDS.computeIfAbsent(row.getClass(), ExcelExportCache::allFields) : WRITE_FIELDS.computeIfAbsent(row.getClass(), ExcelExportCache::writeFields), 1);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static List<Field> writeFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        ClassUtils.declaredFields(type, FIELD_HOLDER)
+                .getSortedFieldMap()
+                .values()
+                .forEach(fieldWrapper -> fields.add(accessible(fieldWrapper.getField())));
+        return fields;
+    }
+
+    private static List<Field> allFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; Objects.nonNull(current) && !Object.class.equals(current); current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    fields.add(accessible(field));
+                }
+            }
+        }
+        return fields;
+    }
+
+    private static Field accessible(Field field) {
+        try {
+            field.setAccessible(true);
+            return field;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Object read(Field field, Object target) {
+        if (Objects.isNull(field)) {
+            return target.toString();
+        }
+        try {
+            return field.get(target);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isLeaf(Object value) {
+        return value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum<?> || value instanceof Temporal || value instanceof Date || value instanceof UUID;
+    }
+
+    private static void update(MessageDigest digest, Object value, int depth) {
+        if (Objects.isNull(value)) {
+            digest.update((byte) 0);
+        } else if (value instanceof byte[] bytes) {
+            digest.update((byte) 1);
+            update(digest, bytes.length);
+            digest.update(bytes);
+        } else if (isLeaf(value) || depth >= MAX_DEPTH) {
+            digest.update((byte) 2);
+            update(digest, value.getClass().getName());
+            update(digest, value.toString());
+        } else if (value instanceof Collection<?> collection) {
+            digest.update((byte) 3);
+            update(digest, collection.size());
+            collection.forEach(item -> update(digest, item, depth + 1));
+        } else if (value instanceof Map<?, ?> map) {
+            digest.update((byte) 4);
+            update(digest, map.size());
+            map.forEach((k, v) -> {
+                update(digest, k, depth + 1);
+                update(digest, v, depth + 1);
+            });
+        } else if (value.getClass().isArray()) {
+            digest.update((byte) 5);
+            int length = Array.getLength(value);
+            update(digest, length);
+            for (int i = 0; i < length; i++) {
+                update(digest, Array.get(value, i), depth + 1);
+            }
+        } else {
+            // 其他对象按字段展开，默认的 toString 只有对象地址，同一个对象修改后摘要不会变
+            digest.update((byte) 6);
+            update(digest, value.getClass().getName());
+            update(digest, value, ALL_FIELDS.computeIfAbsent(value.getClass(), ExcelExportCache::allFields), depth + 1);
+        }
+    }
+
+    private static void update(MessageDigest digest, Object target, List<Field> fields, int depth) {
+        for (Field field : fields) {
+            update(digest, Objects.isNull(field) ? null : field.getName());
+            update(digest, read(field, target), depth);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (Objects.isNull(value)) {
+            update(digest, -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        update(digest, bytes.length);
+        digest.update(bytes);
+    }
+
+    private static void update(MessageDigest digest, int value) {
+        digest.update((byte) (value >>> 24));
+        digest.update((byte) (value >>> 16));
+        digest.update((byte) (value >>> 8));
+        digest.update((byte) value);
+    }
+
+    synchronized Entry get(Key key) {
+        Entry entry = cache.get(key);
+        if (Objects.nonNull(entry) && entry.expiresAt() < System.currentTimeMillis()) {
+            cache.remove(key);
+            bytes -= entry.content().length;
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * &#x5927;&#x4E8E; maxEntrySize &#x7684;&#x6587;&#x4EF6;&#x4E0D;&#x7F13;&#x5B58;&#xFF0C;&#x8FD4;&#x56DE; null
+     */
+    Entry put(Key key, byte[] content) {
+        if (content.length > properties.getMaxEntrySize().toBytes()) {
+            return null;
+        }
+        // 强 ETag：同样的字节才有同样的值
+        String etag = "\"" + HexFormat.of().formatHex(sha256().digest(content), 0, 16) + "\"";
+        Entry entry = new Entry(content, etag, System.currentTimeMillis() + properties.getTtl().toMillis());
+        synchronized (this) {
+            Entry old = cache.put(key, entry);
+            if (Objects.nonNull(old)) {
+                bytes -= old.content().length;
+            }
+            bytes += content.length;
+            Iterator<Map.Entry<Key, Entry>> iterator = cache.entrySet().iterator();
+            while (iterator.hasNext() && (cache.size() > properties.getMaxEntries() || bytes > properties.getMaxSize().toBytes())) {
+                Map.Entry<Key, Entry> eldest = iterator.next();
+                bytes -= eldest.getValue().content().length;
+                iterator.remove();
+                log.debug("移除导出缓存：{}", eldest.getKey().method());
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * @param variables &#x4F7F;&#x7528; templateSpEL &#x65F6;&#x7684;&#x8BF7;&#x6C42;&#x53C2;&#x6570;&#xFF0C;&#x5426;&#x5219;&#x4E3A;&#x7A7A;
+     * @param template  &#x6A21;&#x677F;&#x7684;&#x8DEF;&#x5F84;&#x548C;&#x4FEE;&#x6539;&#x65F6;&#x95F4;&#xFF0C;&#x6CA1;&#x6709;&#x6A21;&#x677F;&#x65F6;&#x4E3A; null
+     */
+    record Key(Method method, String digest, Map<String, String> variables, Object template) {
+    }
+
+    record Entry(byte[] content, String etag, long expiresAt) {
+    }
+}
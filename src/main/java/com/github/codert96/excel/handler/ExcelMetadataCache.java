@@ -0,0 +1,136 @@
+package com.github.codert96.excel.handler;
+
+import com.github.codert96.excel.annotations.RequestExcel;
+import com.github.codert96.excel.annotations.ResponseExcel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+
+/**
+ * &#x6309; MethodParameter / Method &#x7F13;&#x5B58;&#x6CE8;&#x89E3;&#x3001;&#x8868;&#x5934;&#x7C7B;&#x578B;&#x548C;&#x8F6C;&#x6362;&#x5668;&#x7B49;&#x5B9E;&#x4F8B;&#xFF0C;&#x8BF7;&#x6C42;&#x65F6;&#x4E0D;&#x518D;&#x53CD;&#x5C04;
+ */
+@RequiredArgsConstructor
+class ExcelMetadataCache {
+    private static final List<Class<?>> ASYNC_TYPES = List.of(CompletionStage.class, Future.class, DeferredResult.class, Callable.class, WebAsyncTask.class);
+    private final ApplicationContext applicationContext;
+    private final SpelExpressionParser expressionParser = new SpelExpressionParser(new SpelParserConfiguration(true, true));
+    private final Map<Class<?>, Object> singletons = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Constructor<?>> constructors = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Boolean> stateless = new ConcurrentHashMap<>();
+    private final Map<MethodParameter, RequestMetadata> requests = new ConcurrentHashMap<>();
+    private final Map<Method, ResponseMetadata> responses = new ConcurrentHashMap<>();
+
+    private static boolean stateless(Class<?> type) {
+        for (Class<?> current = type; Objects.nonNull(current) && !Object.class.equals(current); current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static ResolvableType unwrapAsync(ResolvableType type) {
+        for (Class<?> asyncType : ASYNC_TYPES) {
+            ResolvableType resolvableType = type.as(asyncType);
+            if (resolvableType != ResolvableType.NONE) {
+                return unwrapAsync(resolvableType.getGeneric(0));
+            }
+        }
+        return type;
+    }
+
+    void warmUp(Collection<HandlerMethod> handlerMethods) {
+        handlerMethods.forEach(handlerMethod -> {
+            Arrays.stream(handlerMethod.getMethodParameters())
+                    .filter(parameter -> parameter.hasParameterAnnotation(RequestExcel.class))
+                    .map(MethodParameter::nestedIfOptional)
+                    .forEach(this::request);
+            if (handlerMethod.hasMethodAnnotation(ResponseExcel.class)) {
+                response(handlerMethod.getReturnType());
+            }
+        });
+    }
+
+    /**
+     * &#x6574;&#x4E2A;&#x5E94;&#x7528;&#x5171;&#x7528;&#x4E00;&#x4E2A;&#x5B9E;&#x4F8B;&#xFF0C;&#x53EA;&#x7528;&#x4E8E;&#x5DF2;&#x77E5;&#x65E0;&#x72B6;&#x6001;&#x7684;&#x7EC4;&#x4EF6;&#xFF1B;&#x8F6C;&#x6362;&#x5668;&#x3001;&#x6821;&#x9A8C;&#x5668;&#x548C; WriteHandler &#x4F7F;&#x7528; instance
+     */
+    @SuppressWarnings("unchecked")
+    <T> T singleton(Class<T> type) {
+        return (T) singletons.computeIfAbsent(type, this::instantiate);
+    }
+
+    /**
+     * &#x6CA1;&#x6709;&#x5B9E;&#x4F8B;&#x5B57;&#x6BB5;&#x7684;&#x7C7B;&#x590D;&#x7528;&#x540C;&#x4E00;&#x4E2A;&#x5B9E;&#x4F8B;&#xFF0C;&#x5426;&#x5219;&#x6BCF;&#x6B21;&#x65B0;&#x5EFA;
+     */
+    @SuppressWarnings("unchecked")
+    <T> T instance(Class<T> type) {
+        if (stateless.computeIfAbsent(type, ExcelMetadataCache::stateless)) {
+            return singleton(type);
+        }
+        return (T) instantiate(type);
+    }
+
+    private Object instantiate(Class<?> type) {
+        Constructor<?> constructor = constructors.computeIfAbsent(type, BeanUtils::getResolvableConstructor);
+        Object instance = BeanUtils.instantiateClass(constructor);
+        if (instance instanceof ApplicationContextAware applicationContextAware) {
+            applicationContextAware.setApplicationContext(applicationContext);
+        }
+        return instance;
+    }
+
+    RequestMetadata request(MethodParameter parameter) {
+        return requests.computeIfAbsent(parameter, it -> {
+            RequestExcel requestExcel = Objects.requireNonNull(it.getParameterAnnotation(RequestExcel.class));
+            ResolvableType elementType = ResolvableType.forMethodParameter(it).getGeneric(0);
+            boolean batch = !List.class.isAssignableFrom(it.getParameterType()) && List.class.equals(elementType.resolve());
+            Class<?> head = batch ? elementType.getGeneric(0).resolve() : elementType.resolve();
+            return new RequestMetadata(requestExcel, head, batch);
+        });
+    }
+
+    ResponseMetadata response(MethodParameter returnType) {
+        Method method = Objects.requireNonNull(returnType.getMethod());
+        return responses.computeIfAbsent(method, it -> {
+            ResponseExcel responseExcel = Objects.requireNonNull(returnType.getMethodAnnotation(ResponseExcel.class));
+            Class<?> head = responseExcel.headClass();
+            if (head.equals(Void.class)) {
+                head = unwrapAsync(ResolvableType.forMethodReturnType(it)).getGeneric(0).resolve();
+            }
+            Expression templateExpression = StringUtils.hasText(responseExcel.templateSpEL()) ? expressionParser.parseExpression(responseExcel.templateSpEL()) : null;
+            return new ResponseMetadata(responseExcel, head, templateExpression);
+        });
+    }
+
+    record RequestMetadata(RequestExcel requestExcel, Class<?> head, boolean batch) {
+    }
+
+    record ResponseMetadata(ResponseExcel responseExcel, Class<?> head, Expression templateExpression) {
+    }
+}
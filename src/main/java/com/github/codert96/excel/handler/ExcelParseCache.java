@@ -0,0 +1,218 @@
+package com.github.codert96.excel.handler;
+
+import com.github.codert96.excel.config.EasyExcelProperties;
+import com.github.codert96.excel.exceptions.ExcelStorageException;
+import com.github.codert96.excel.storage.ExcelTempStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ConfigurableObjectInputStream;
+import org.springframework.util.ClassUtils;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * &#x6309;&#x4E0A;&#x4F20;&#x5185;&#x5BB9;&#x7684; SHA-256 &#x548C;&#x89E3;&#x6790;&#x53C2;&#x6570;&#x7F13;&#x5B58; List &#x7684;&#x89E3;&#x6790;&#x7ED3;&#x679C;&#xFF0C;&#x4FDD;&#x5B58;&#x7684;&#x662F;&#x5E8F;&#x5217;&#x5316;&#x540E;&#x7684;&#x5B57;&#x8282;&#xFF0C;&#x6BCF;&#x6B21;&#x547D;&#x4E2D;&#x90FD;&#x5F97;&#x5230;&#x65B0;&#x7684;&#x5BF9;&#x8C61;&#x3002;
+ * &#x5185;&#x5B58;&#x4E2D;&#x6309;&#x6700;&#x8FD1;&#x6700;&#x5C11;&#x4F7F;&#x7528;&#x6DD8;&#x6C70;&#x5230;&#x78C1;&#x76D8;&#xFF0C;&#x78C1;&#x76D8;&#x4E0A;&#x518D;&#x6DD8;&#x6C70;&#x5C31;&#x5220;&#x9664;&#xFF1B;&#x78C1;&#x76D8;&#x6587;&#x4EF6;&#x4F7F;&#x7528; ExcelTempStorage &#x7684;&#x4E34;&#x65F6;&#x6587;&#x4EF6;&#xFF0C;&#x8BA1;&#x5165;&#x5BB9;&#x91CF;&#x4E0A;&#x9650;&#x3002;
+ * &#x4EFB;&#x4F55;&#x5143;&#x7D20;&#x4E0D;&#x80FD;&#x5E8F;&#x5217;&#x5316;&#x65F6;&#x4E0D;&#x7F13;&#x5B58;&#xFF1B;&#x78C1;&#x76D8;&#x6587;&#x4EF6;&#x7684;&#x6458;&#x8981;&#x53EA;&#x4FDD;&#x5B58;&#x5728;&#x5185;&#x5B58;&#x4E2D;&#xFF0C;&#x6458;&#x8981;&#x4E0D;&#x4E00;&#x81F4;&#x7684;&#x6587;&#x4EF6;&#x4E0D;&#x4F1A;&#x88AB;&#x53CD;&#x5E8F;&#x5217;&#x5316;
+ */
+@Slf4j
+@RequiredArgsConstructor
+class ExcelParseCache {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private final EasyExcelProperties.ParseCache properties;
+    private final ExcelTempStorage tempStorage;
+    private final LinkedHashMap<Key, Entry> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Key, Entry> disk = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+    private long diskBytes;
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String digest(InputStream inputStream) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        for (int read; (read = inputStream.read(buffer)) != -1; ) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * &#x672A;&#x547D;&#x4E2D;&#x6216;&#x5DF2;&#x8FC7;&#x671F;&#x65F6;&#x8FD4;&#x56DE; null
+     */
+    List<Object> get(Key key) {
+        Entry entry;
+        List<Path> deletes = new ArrayList<>();
+        synchronized (this) {
+            entry = memory.get(key);
+            if (entry == null) {
+                entry = disk.get(key);
+            }
+            if (entry != null && entry.expiresAt() < System.currentTimeMillis()) {
+                remove(key, deletes);
+                entry = null;
+            }
+        }
+        deletes.forEach(tempStorage::delete);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            byte[] bytes = entry.bytes();
+            if (bytes == null) {
+                bytes = Files.readAllBytes(entry.path());
+                if (!MessageDigest.isEqual(entry.checksum(), sha256().digest(bytes))) {
+                    throw new InvalidObjectException("缓存文件内容已改变：" + entry.path());
+                }
+            }
+            try (ObjectInputStream objectInputStream = new ConfigurableObjectInputStream(new ByteArrayInputStream(bytes), ClassUtils.getDefaultClassLoader())) {
+                @SuppressWarnings("unchecked")
+                List<Object> list = (List<Object>) objectInputStream.readObject();
+                log.debug("解析结果缓存命中：{}", key.digest());
+                return list;
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            // 文件被清理、被修改或类已变化
+            log.warn("读取解析结果缓存失败：{}", e.getMessage());
+            synchronized (this) {
+                if (memory.get(key) == entry || disk.get(key) == entry) {
+                    remove(key, deletes);
+                }
+            }
+            deletes.forEach(tempStorage::delete);
+            return null;
+        }
+    }
+
+    /**
+     * &#x6BCF;&#x4E2A;&#x5143;&#x7D20;&#x90FD;&#x8981;&#x5B9E;&#x73B0; Serializable&#xFF0C;&#x5F15;&#x7528;&#x7684;&#x5BF9;&#x8C61;&#x5E8F;&#x5217;&#x5316;&#x5931;&#x8D25;&#x65F6;&#x540C;&#x6837;&#x4E0D;&#x7F13;&#x5B58;
+     */
+    void put(Key key, List<?> list) {
+        if (!list.stream().allMatch(element -> element == null || element instanceof Serializable)) {
+            return;
+        }
+        byte[] bytes;
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream(); ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(new ArrayList<>(list));
+            objectOutputStream.flush();
+            bytes = outputStream.toByteArray();
+        } catch (IOException e) {
+            log.debug("解析结果不能序列化，不缓存：{}", e.getMessage());
+            return;
+        }
+        Entry entry = new Entry(bytes, null, null, bytes.length, System.currentTimeMillis() + properties.getTtl().toMillis());
+        List<Path> deletes = new ArrayList<>();
+        List<Map.Entry<Key, Entry>> spills = new ArrayList<>();
+        synchronized (this) {
+            remove(key, deletes);
+            if (bytes.length <= properties.getMaxSize().toBytes()) {
+                memory.put(key, entry);
+                memoryBytes += bytes.length;
+                evict(spills);
+            } else {
+                spills.add(Map.entry(key, entry));
+            }
+        }
+        deletes.forEach(tempStorage::delete);
+        // 磁盘写入不持有锁，其他请求的 get / put 不需要等待
+        spills.forEach(spill -> spill(spill.getKey(), spill.getValue()));
+    }
+
+    private void evict(List<Map.Entry<Key, Entry>> spills) {
+        Iterator<Map.Entry<Key, Entry>> iterator = memory.entrySet().iterator();
+        while (iterator.hasNext() && (memory.size() > properties.getMaxEntries() || memoryBytes > properties.getMaxSize().toBytes())) {
+            Map.Entry<Key, Entry> eldest = iterator.next();
+            iterator.remove();
+            memoryBytes -= eldest.getValue().size();
+            spills.add(eldest);
+        }
+    }
+
+    /**
+     * &#x5199;&#x5165;&#x78C1;&#x76D8;&#x5C42;&#xFF0C;&#x8D85;&#x8FC7;&#x78C1;&#x76D8;&#x4E0A;&#x9650;&#x65F6;&#x5220;&#x9664;&#x6700;&#x4E45;&#x672A;&#x4F7F;&#x7528;&#x7684;&#x6587;&#x4EF6;&#xFF1B;&#x4E34;&#x65F6;&#x6587;&#x4EF6;&#x5BB9;&#x91CF;&#x4E0D;&#x8DB3;&#x65F6;&#x653E;&#x5F03;
+     */
+    private void spill(Key key, Entry entry) {
+        long maxDiskSize = properties.getDiskMaxSize().toBytes();
+        if (entry.size() > maxDiskSize || entry.expiresAt() < System.currentTimeMillis()) {
+            return;
+        }
+        Path path = null;
+        try {
+            path = tempStorage.tryCreateTempFile();
+            if (path == null) {
+                return;
+            }
+            tempStorage.pin(path);
+            Files.write(path, entry.bytes());
+            tempStorage.commit(path);
+        } catch (IOException | ExcelStorageException e) {
+            log.warn("写入解析结果缓存失败：{}", e.getMessage());
+            if (path != null) {
+                tempStorage.delete(path);
+            }
+            return;
+        }
+        Entry spilled = new Entry(null, path, sha256().digest(entry.bytes()), entry.size(), entry.expiresAt());
+        List<Path> deletes = new ArrayList<>();
+        synchronized (this) {
+            if (memory.containsKey(key) || disk.containsKey(key)) {
+                // 写入期间已经有新的结果
+                deletes.add(path);
+            } else {
+                disk.put(key, spilled);
+                diskBytes += spilled.size();
+                Iterator<Map.Entry<Key, Entry>> iterator = disk.entrySet().iterator();
+                while (iterator.hasNext() && diskBytes > maxDiskSize) {
+                    Entry eldest = iterator.next().getValue();
+                    iterator.remove();
+                    diskBytes -= eldest.size();
+                    deletes.add(eldest.path());
+                }
+            }
+        }
+        deletes.forEach(tempStorage::delete);
+    }
+
+    /**
+     * &#x53EA;&#x4FEE;&#x6539;&#x7D22;&#x5F15;&#xFF0C;&#x9700;&#x8981;&#x5220;&#x9664;&#x7684;&#x6587;&#x4EF6;&#x653E;&#x5165; deletes&#xFF0C;&#x7531;&#x8C03;&#x7528;&#x65B9;&#x5728;&#x9501;&#x5916;&#x5220;&#x9664;
+     */
+    private void remove(Key key, List<Path> deletes) {
+        Entry entry = memory.remove(key);
+        if (entry != null) {
+            memoryBytes -= entry.size();
+        }
+        entry = disk.remove(key);
+        if (entry != null) {
+            diskBytes -= entry.size();
+            deletes.add(entry.path());
+        }
+    }
+
+    /**
+     * @param digest &#x4E0A;&#x4F20;&#x5185;&#x5BB9;&#x7684; SHA-256
+     */
+    record Key(String digest, Class<?> head, int sheetIndex, String sheetName, int headRowNumber,
+               boolean ignoreEmptyRow, String password, List<String> converters) {
+    }
+
+    /**
+     * @param checksum &#x78C1;&#x76D8;&#x6587;&#x4EF6;&#x5185;&#x5BB9;&#x7684; SHA-256&#xFF0C;&#x5185;&#x5B58;&#x4E2D;&#x7684;&#x6761;&#x76EE;&#x4E3A; null
+     */
+    private record Entry(byte[] bytes, Path path, byte[] checksum, long size, long expiresAt) {
+    }
+}
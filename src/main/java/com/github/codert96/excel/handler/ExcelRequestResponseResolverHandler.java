@@ -1,100 +1,120 @@
 package com.github.codert96.excel.handler;
 
 import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.ExcelReader;
 import com.alibaba.excel.ExcelWriter;
-import com.alibaba.excel.annotation.ExcelProperty;
 import com.alibaba.excel.converters.Converter;
+import com.alibaba.excel.exception.ExcelAnalysisStopException;
 import com.alibaba.excel.read.builder.ExcelReaderBuilder;
+import com.alibaba.excel.read.metadata.ReadSheet;
 import com.alibaba.excel.write.builder.ExcelWriterBuilder;
 import com.alibaba.excel.write.metadata.WriteSheet;
 import com.alibaba.excel.write.metadata.fill.FillConfig;
 import com.github.codert96.excel.annotations.RequestExcel;
 import com.github.codert96.excel.annotations.ResponseExcel;
-import com.github.codert96.excel.bean.ExcelFieldError;
-import com.github.codert96.excel.exceptions.ExcelNotValidException;
+import com.github.codert96.excel.config.EasyExcelProperties;
 import com.github.codert96.excel.exceptions.IllegalExcelException;
+import com.github.codert96.excel.job.ExcelJob;
+import com.github.codert96.excel.job.ExcelJobStore;
+import com.github.codert96.excel.read.ExcelRowConsumer;
+import com.github.codert96.excel.read.ExcelRowListener;
+import com.github.codert96.excel.read.ExcelRowReader;
+import com.github.codert96.excel.storage.ExcelSpool;
+import com.github.codert96.excel.storage.ExcelTempStorage;
+import com.github.codert96.excel.write.ExcelChunks;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationContext;
-import org.springframework.context.ApplicationContextAware;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ApplicationEventMulticaster;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.core.MethodParameter;
-import org.springframework.core.ResolvableType;
-import org.springframework.expression.spel.SpelParserConfiguration;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.http.CacheControl;
 import org.springframework.http.ContentDisposition;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.lang.NonNull;
 import org.springframework.util.ResourceUtils;
-import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
-import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
-import org.springframework.validation.FieldError;
 import org.springframework.validation.SmartValidator;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.support.RequestHandledEvent;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
 import org.springframework.web.method.support.ModelAndViewContainer;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.multipart.MultipartRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.io.*;
-import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import java.util.*;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.Callable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @SuppressWarnings("unused")
-public class ExcelRequestResponseResolverHandler implements HandlerMethodArgumentResolver, HandlerMethodReturnValueHandler, ApplicationListener<RequestHandledEvent> {
+public class ExcelRequestResponseResolverHandler implements HandlerMethodArgumentResolver, HandlerMethodReturnValueHandler, DisposableBean {
 
     private static final String PROCESSOR_KEY_PREFIX = ExcelRequestResponseResolverHandler.class.getName() + "_";
+    private static final String BINDING_RESULT_KEY = BindingResult.MODEL_KEY_PREFIX + "bindingResult";
+    private static final Set<Class<?>> STREAMING_TYPES = Set.of(Stream.class, Iterator.class, ExcelRowReader.class);
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
     private final ApplicationContext applicationContext;
     private final List<Class<? extends Converter<?>>> converters;
     private final SmartValidator smartValidator;
-    private final SpelExpressionParser expressionParser = new SpelExpressionParser(new SpelParserConfiguration(true, true));
-    private final ThreadLocal<List<Path>> tempFiles = ThreadLocal.withInitial(() -> Collections.synchronizedList(new ArrayList<>()));
+    private final EasyExcelProperties properties;
+    private final ExcelMetadataCache metadataCache;
+    private final BeanFactoryResolver beanResolver;
+    private final ExcelTemplateCache templateCache;
+    private final ExcelExecutor executor;
+    private final ExcelTempStorage tempStorage;
+    private final ExcelParseCache parseCache;
+    private final ExcelExportCache exportCache;
 
-    public ExcelRequestResponseResolverHandler(ApplicationContext applicationContext, List<Class<? extends Converter<?>>> converters, SmartValidator smartValidator) {
+    public ExcelRequestResponseResolverHandler(ApplicationContext applicationContext, List<Class<? extends Converter<?>>> converters, SmartValidator smartValidator, EasyExcelProperties properties) {
         this.applicationContext = applicationContext;
         this.converters = converters;
         this.smartValidator = smartValidator;
+        this.properties = properties;
+        this.metadataCache = new ExcelMetadataCache(applicationContext);
+        this.beanResolver = new BeanFactoryResolver(applicationContext);
+        this.templateCache = new ExcelTemplateCache(properties.getTemplate());
+        this.executor = new ExcelExecutor(properties.getExecutor(), properties.getAsync());
+        this.tempStorage = new ExcelTempStorage(properties.getStorage());
+        this.parseCache = new ExcelParseCache(properties.getParseCache(), tempStorage);
+        this.exportCache = new ExcelExportCache(properties.getExportCache());
+    }
 
-        applicationContext.getBean(ApplicationEventMulticaster.class).addApplicationListener(this);
+    public void warmUp(Collection<HandlerMethod> handlerMethods) {
+        metadataCache.warmUp(handlerMethods);
     }
 
-    private static String excelProperty(Map<String, String> map, Object o, String field) {
-        return map.computeIfAbsent(o.getClass() + field, s -> {
-            try {
-                Field declaredField = o.getClass().getDeclaredField(field);
-                ExcelProperty property = declaredField.getAnnotation(ExcelProperty.class);
-                String cell = "";
-                if (Objects.nonNull(property)) {
-                    String[] value = property.value();
-                    if (value.length != 0) {
-                        cell = value[value.length - 1];
-                    }
-                }
-                return cell;
-            } catch (ReflectiveOperationException e) {
-                throw new RuntimeException(e);
-            }
-        });
+    @Override
+    public void destroy() {
+        executor.shutdown();
+        tempStorage.close();
     }
 
     private Processor getProcessor() {
@@ -110,7 +130,11 @@ public class ExcelRequestResponseResolverHandler implements HandlerMethodArgumen
 
     @Override
     public boolean supportsParameter(@NonNull MethodParameter parameter) {
-        return parameter.hasParameterAnnotation(RequestExcel.class) && List.class.isAssignableFrom(parameter.getParameterType());
+        if (!parameter.hasParameterAnnotation(RequestExcel.class)) {
+            return false;
+        }
+        Class<?> parameterType = parameter.getParameterType();
+        return List.class.isAssignableFrom(parameterType) || STREAMING_TYPES.contains(parameterType);
     }
 
     @Override
@@ -118,46 +142,245 @@ public class ExcelRequestResponseResolverHandler implements HandlerMethodArgumen
         parameter = parameter.nestedIfOptional();
         HttpServletRequest httpServletRequest = Objects.requireNonNull(webRequest.getNativeRequest(HttpServletRequest.class));
 
-        RequestExcel requestExcel = Objects.requireNonNull(parameter.getParameterAnnotation(RequestExcel.class));
-        String tempKey = "tempFile_" + requestExcel.value();
-        ExcelReaderBuilder builder = EasyExcel.read();
-        Object attribute = httpServletRequest.getAttribute(tempKey);
+        ExcelMetadataCache.RequestMetadata metadata = metadataCache.request(parameter);
+        RequestExcel requestExcel = metadata.requestExcel();
+        Class<?> head = metadata.head();
+        boolean batch = metadata.batch();
+        boolean listParameter = List.class.isAssignableFrom(parameter.getParameterType());
+        boolean cacheable = parseCache.isEnabled() && listParameter;
+        ExcelSource source = source(httpServletRequest, requestExcel);
 
-        Path tempFile = (Path) attribute;
-        if (Objects.isNull(attribute)) {
-            tempFile = createTempFile();
-        }
-        httpServletRequest.setAttribute(tempKey, tempFile);
-        if (Objects.isNull(attribute)) {
-            try {
-                if (httpServletRequest instanceof MultipartRequest multipartRequest) {
-                    MultipartFile file = Objects.requireNonNull(multipartRequest.getFile(requestExcel.value()));
-                    file.transferTo(tempFile.toFile());
-                } else {
-                    Files.copy(httpServletRequest.getInputStream(), tempFile, StandardCopyOption.REPLACE_EXISTING);
+        if (listParameter) {
+            ExcelParseCache.Key cacheKey = cacheable ? cacheKey(httpServletRequest, requestExcel, head) : null;
+            List<Object> cached = Objects.isNull(cacheKey) ? null : parseCache.get(cacheKey);
+            List<Object> list = Objects.nonNull(cached) ? cached : new ArrayList<>();
+            if (!requestExcel.validate()) {
+                if (Objects.isNull(cached)) {
+                    read(requestExcel, head, source, true, (row, index) -> list.add(row));
+                    cache(cacheKey, list);
                 }
-            } catch (Exception e) {
-                log.error(e.getMessage(), e);
+                return list;
             }
+            BindingResult bindingResult = bindingResult(httpServletRequest, webRequest, binderFactory, list);
+            ExcelRowValidator validator = new ExcelRowValidator(smartValidator, parameter, requestExcel, bindingResult, properties.getValidate().getMaxErrors());
+            if (requestExcel.parallelValidate()) {
+                if (Objects.isNull(cached)) {
+                    read(requestExcel, head, source, true, (row, index) -> list.add(row));
+                    cache(cacheKey, list);
+                }
+                validator.validate(list, executor.get(), executor.parallelism());
+            } else if (Objects.nonNull(cached)) {
+                validator.validateOrStop(list);
+            } else {
+                // 边解析边校验，达到错误上限后不再读取剩余的行
+                read(requestExcel, head, source, true, (row, index) -> {
+                    list.add(row);
+                    validator.validateOrStop(row, index);
+                });
+                if (!validator.exhausted()) {
+                    cache(cacheKey, list);
+                }
+            }
+            if (bindingResult.getTarget() != list) {
+                Optional.ofNullable(target(bindingResult))
+                        .ifPresent(oldList -> oldList.addAll(list));
+            }
+            validator.check(list);
+            if (Objects.nonNull(mavContainer)) {
+                mavContainer.addAttribute(BINDING_RESULT_KEY, bindingResult);
+            }
+            return list;
         }
-        final Path checkFile = tempFile;
-        Arrays.stream(requestExcel.checker())
-                .map(BeanUtils::instantiateClass)
-                .peek(this::setApplicationContext)
-                .forEach(excelChecker -> {
-                    try {
-                        if (!excelChecker.check(checkFile)) {
-                            throw new IllegalExcelException();
-                        }
-                    } catch (Exception e) {
-                        throw new IllegalExcelException(e);
+
+        ExcelRowReader<Object> reader;
+        if (requestExcel.validate()) {
+            List<Object> target = new ArrayList<>();
+            BindingResult bindingResult = bindingResult(httpServletRequest, webRequest, binderFactory, target);
+            ExcelRowValidator validator = new ExcelRowValidator(smartValidator, parameter, requestExcel, bindingResult, properties.getValidate().getMaxErrors());
+            // EasyExcel 吞掉停止读取的异常，错误在读取结束后才抛出；会抛出异常时不交付校验失败的行，调用方只会处理校验通过的行
+            boolean filter = validator.throwing();
+            reader = new ExcelRowReader<>(consumer -> {
+                read(requestExcel, head, source, false, (row, index) -> {
+                    if (validator.validateOrStop(row, index) || !filter) {
+                        consumer.accept(row, index);
                     }
                 });
-        builder.file(Files.newInputStream(tempFile));
+                validator.check(target);
+            }, requestExcel.batchSize(), requestExcel.queueCapacity(), executor.reader(), properties.getAsync().getTimeout());
+            if (Objects.nonNull(mavContainer)) {
+                mavContainer.addAttribute(BINDING_RESULT_KEY, bindingResult);
+            }
+        } else {
+            reader = new ExcelRowReader<>(consumer -> read(requestExcel, head, source, false, consumer), requestExcel.batchSize(), requestExcel.queueCapacity(), executor.reader(), properties.getAsync().getTimeout());
+        }
+        Optional.ofNullable(RequestContextHolder.getRequestAttributes())
+                .ifPresent(requestAttributes -> requestAttributes.registerDestructionCallback(PROCESSOR_KEY_PREFIX + reader.hashCode(), reader::close, RequestAttributes.SCOPE_REQUEST));
 
+        Class<?> parameterType = parameter.getParameterType();
+        if (Stream.class.equals(parameterType)) {
+            return batch ? reader.batchStream() : reader.stream();
+        } else if (Iterator.class.equals(parameterType)) {
+            return batch ? reader.batches() : reader.iterator();
+        }
+        return reader;
+    }
 
-        builder.ignoreEmptyRow(requestExcel.ignoreEmptyRow())
-                .head(ResolvableType.forMethodParameter(parameter).getGeneric(0).resolve())
+    /**
+     * &#x4E0A;&#x4F20;&#x5185;&#x5BB9;&#x5DF2;&#x4FDD;&#x5B58;&#x5230; ExcelSpool &#x65F6;&#x624D;&#x80FD;&#x8BA1;&#x7B97;&#x6458;&#x8981;&#xFF0C;&#x540C;&#x4E00;&#x4E2A;&#x6587;&#x4EF6;&#x7684;&#x591A;&#x4E2A;&#x53C2;&#x6570;&#x53EA;&#x8BA1;&#x7B97;&#x4E00;&#x6B21;
+     */
+    private ExcelParseCache.Key cacheKey(HttpServletRequest httpServletRequest, RequestExcel requestExcel, Class<?> head) {
+        ExcelSpool spool = (ExcelSpool) httpServletRequest.getAttribute("tempFile_" + requestExcel.value());
+        if (Objects.isNull(spool)) {
+            return null;
+        }
+        String digestKey = "tempFileDigest_" + requestExcel.value();
+        String digest = (String) httpServletRequest.getAttribute(digestKey);
+        if (Objects.isNull(digest)) {
+            try (InputStream inputStream = spool.getInputStream()) {
+                digest = ExcelParseCache.digest(inputStream);
+            } catch (IOException e) {
+                log.warn("计算上传文件摘要失败：{}", e.getMessage());
+                return null;
+            }
+            httpServletRequest.setAttribute(digestKey, digest);
+        }
+        return new ExcelParseCache.Key(
+                digest,
+                head,
+                requestExcel.sheetIndex(),
+                requestExcel.sheetName(),
+                requestExcel.headRowNumber(),
+                requestExcel.ignoreEmptyRow(),
+                requestExcel.password(),
+                converters.stream().map(Class::getName).toList()
+        );
+    }
+
+    private void cache(ExcelParseCache.Key cacheKey, List<Object> list) {
+        if (Objects.nonNull(cacheKey)) {
+            parseCache.put(cacheKey, list);
+        }
+    }
+
+    private ExcelSource source(HttpServletRequest httpServletRequest, RequestExcel requestExcel) throws IOException {
+        String tempKey = "tempFile_" + requestExcel.value();
+        ExcelSpool spool = (ExcelSpool) httpServletRequest.getAttribute(tempKey);
+        MultipartFile multipartFile = null;
+        if (httpServletRequest instanceof MultipartRequest multipartRequest) {
+            multipartFile = Objects.requireNonNull(multipartRequest.getFile(requestExcel.value()));
+        }
+        boolean small = Objects.nonNull(multipartFile) && multipartFile.getSize() <= tempStorage.getMemoryThreshold();
+        if (Objects.isNull(spool)) {
+            // 小文件只保存在内存中，其余写入临时目录，受配额限制并随请求清理；
+            // EasyExcel 拿到输入流时会再复制到自己的缓存文件，所以只给它 File 或内存中的数据
+            // 容器已写入磁盘的上传文件 transferTo 时通常只是移动
+            // 写入失败直接抛出，不完整的数据不能交给校验器和解析器
+            if (Objects.nonNull(multipartFile) && !small) {
+                Path tempFile = tempStorage.createTempFile(httpServletRequest);
+                multipartFile.transferTo(tempFile.toFile());
+                tempStorage.commit(tempFile);
+                spool = tempStorage.createSpool(httpServletRequest, tempFile);
+            } else {
+                ExcelSpool memory = tempStorage.createSpool(httpServletRequest);
+                try (InputStream inputStream = Objects.nonNull(multipartFile) ? multipartFile.getInputStream() : httpServletRequest.getInputStream(); memory) {
+                    inputStream.transferTo(memory);
+                } catch (IOException | RuntimeException e) {
+                    memory.release();
+                    throw e;
+                }
+                spool = memory;
+            }
+            httpServletRequest.setAttribute(tempKey, spool);
+        }
+        final ExcelSpool data = spool;
+        if (requestExcel.checker().length != 0) {
+            Path checkFile = data.toPath();
+            Arrays.stream(requestExcel.checker())
+                    .map(metadataCache::instance)
+                    .forEach(excelChecker -> {
+                        try {
+                            if (!excelChecker.check(checkFile)) {
+                                throw new IllegalExcelException();
+                            }
+                        } catch (Exception e) {
+                            throw new IllegalExcelException(e);
+                        }
+                    });
+        }
+        return builder -> {
+            if (data.inMemory()) {
+                // 内存中的数据直接按流解析，EasyExcel 不再复制到自己的缓存文件
+                builder.file(data.getInputStream()).mandatoryUseInputStream(true);
+            } else {
+                // 直接交给 EasyExcel 文件，避免它再把输入流复制到自己的缓存文件
+                builder.file(data.toPath().toFile());
+            }
+        };
+    }
+
+    /**
+     * &#x5E76;&#x884C;&#x8BFB;&#x53D6;&#x6240;&#x6709; sheet &#x9700;&#x8981;&#x628A;&#x7ED3;&#x679C;&#x5168;&#x90E8;&#x653E;&#x5728;&#x5185;&#x5B58;&#x4E2D;&#x5408;&#x5E76;&#xFF0C;&#x53EA;&#x7528;&#x4E8E; List &#x53C2;&#x6570;&#xFF0C;&#x9010;&#x884C;&#x8BFB;&#x53D6;&#x65F6;&#x6309;&#x987A;&#x5E8F;&#x89E3;&#x6790;
+     */
+    private static boolean readAllParallel(RequestExcel requestExcel, boolean list) {
+        return list && requestExcel.parallel() && requestExcel.sheetIndex() < 0 && !StringUtils.hasText(requestExcel.sheetName());
+    }
+
+    private void read(RequestExcel requestExcel, Class<?> head, ExcelSource source, boolean list, ExcelRowConsumer<Object> consumer) throws Exception {
+        if (readAllParallel(requestExcel, list)) {
+            readAllParallel(requestExcel, head, source, consumer);
+            return;
+        }
+        ExcelReaderBuilder builder = readerBuilder(requestExcel, head, source, consumer);
+        if (requestExcel.sheetIndex() >= 0) {
+            builder.sheet(requestExcel.sheetIndex()).doRead();
+        } else if (StringUtils.hasText(requestExcel.sheetName())) {
+            builder.sheet(requestExcel.sheetName()).doRead();
+        } else {
+            builder.doReadAll();
+        }
+    }
+
+    private void readAllParallel(RequestExcel requestExcel, Class<?> head, ExcelSource source, ExcelRowConsumer<Object> consumer) throws Exception {
+        List<ReadSheet> sheets;
+        ExcelReaderBuilder sheetsBuilder = EasyExcel.read();
+        source.apply(sheetsBuilder);
+        if (StringUtils.hasText(requestExcel.password())) {
+            sheetsBuilder.password(requestExcel.password());
+        }
+        try (ExcelReader excelReader = sheetsBuilder.build()) {
+            sheets = excelReader.excelExecutor().sheetList();
+        }
+        List<Future<List<Object>>> futures = new ArrayList<>(sheets.size());
+        for (ReadSheet sheet : sheets) {
+            futures.add(executor.get().submit(() -> {
+                List<Object> rows = new ArrayList<>();
+                readerBuilder(requestExcel, head, source, (row, index) -> rows.add(row))
+                        .sheet(sheet.getSheetNo())
+                        .doRead();
+                return rows;
+            }));
+        }
+        try {
+            int index = 0;
+            for (Future<List<Object>> future : futures) {
+                for (Object row : future.get()) {
+                    consumer.accept(row, index++);
+                }
+            }
+        } catch (ExcelAnalysisStopException ignored) {
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private ExcelReaderBuilder readerBuilder(RequestExcel requestExcel, Class<?> head, ExcelSource source, ExcelRowConsumer<Object> consumer) throws IOException {
+        ExcelReaderBuilder builder = EasyExcel.read();
+        source.apply(builder);
+        builder.head(head)
+                .registerReadListener(new ExcelRowListener<>(consumer))
+                .ignoreEmptyRow(requestExcel.ignoreEmptyRow())
                 .headRowNumber(requestExcel.headRowNumber())
                 .autoCloseStream(true);
 
@@ -166,214 +389,417 @@ public class ExcelRequestResponseResolverHandler implements HandlerMethodArgumen
             builder.password(password);
         }
         converters.stream()
-                .map(BeanUtils::instantiateClass)
-                .peek(this::setApplicationContext)
+                .map(metadataCache::instance)
                 .forEach(builder::registerConverter);
-        List<Object> list = new ArrayList<>();
-        if (requestExcel.sheetIndex() >= 0) {
-            list.addAll(
-                    builder.sheet(requestExcel.sheetIndex())
-                            .doReadSync()
-            );
-        } else if (StringUtils.hasText(requestExcel.sheetName())) {
-            list.addAll(
-                    builder.sheet(requestExcel.sheetName())
-                            .doReadSync()
-            );
-        } else {
-            list.addAll(
-                    builder.doReadAllSync()
-            );
+        return builder;
+    }
+
+    private BindingResult bindingResult(HttpServletRequest httpServletRequest, NativeWebRequest webRequest, WebDataBinderFactory binderFactory, List<Object> list) {
+        BindingResult bindingResult = Optional.ofNullable(
+                        httpServletRequest.getAttribute(BINDING_RESULT_KEY)
+                )
+                .map(BindingResult.class::cast)
+                .orElseGet(() -> {
+                    try {
+                        WebDataBinder dataBinder = binderFactory.createBinder(webRequest, list, "bindingResult");
+                        return dataBinder.getBindingResult();
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+
+        httpServletRequest.setAttribute(BINDING_RESULT_KEY, bindingResult);
+        return bindingResult;
+    }
+
+    /**
+     * &#x540C;&#x4E00;&#x8BF7;&#x6C42;&#x4E2D;&#x4E4B;&#x524D;&#x7684; @RequestExcel &#x53C2;&#x6570;&#x521B;&#x5EFA;&#x7684; BindingResult&#xFF0C;&#x76EE;&#x6807;&#x662F;&#x90A3;&#x6B21;&#x89E3;&#x6790;&#x5F97;&#x5230;&#x7684; List
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Object> target(BindingResult bindingResult) {
+        return bindingResult.getTarget() instanceof List<?> target ? (List<Object>) target : null;
+    }
+
+    @Override
+    public boolean supportsReturnType(@NonNull MethodParameter returnType) {
+        // 异步结果重新分派时参数类型是实际的返回值类型，异步导出完成后是 Exported
+        return returnType.hasMethodAnnotation(ResponseExcel.class)
+                && (ExcelChunks.supports(returnType.getParameterType()) || Exported.class.equals(returnType.getParameterType()));
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, @NonNull MethodParameter returnType, @NonNull ModelAndViewContainer mavContainer, @NonNull NativeWebRequest webRequest) throws Exception {
+        mavContainer.setRequestHandled(true);
+        if (returnValue instanceof Exported) {
+            // 异步导出已经写完响应，重新分派时不能再交给其他处理器解析视图
+            return;
         }
-        if (requestExcel.validate()) {
-            Map<String, String> cacheMap = new HashMap<>();
-            Object[] validateGroups = requestExcel.validateGroups();
-
-            String bindingResultKey = BindingResult.MODEL_KEY_PREFIX + "bindingResult";
-            BindingResult bindingResult = Optional.ofNullable(
-                            httpServletRequest.getAttribute(bindingResultKey)
-                    )
-                    .map(BindingResult.class::cast)
-                    .map(tmp -> {
-                        //noinspection unchecked
-                        Optional.ofNullable(tmp.getTarget())
-                                .map(List.class::cast)
-                                .ifPresent(oldList -> oldList.addAll(list));
-                        return tmp;
-                    })
-                    .orElseGet(() -> {
-                        try {
-                            WebDataBinder dataBinder = binderFactory.createBinder(webRequest, list, "bindingResult");
-                            return dataBinder.getBindingResult();
-                        } catch (Exception e) {
-                            throw new RuntimeException(e);
-                        }
-                    });
+        ResponseExcel responseExcel = metadataCache.response(returnType).responseExcel();
+        HttpServletRequest nativeRequest = Objects.requireNonNull(webRequest.getNativeRequest(HttpServletRequest.class));
+        Processor processor = getProcessor();
+        if (responseExcel.async()) {
+            submit(returnValue, returnType, webRequest, responseExcel, processor);
+            return;
+        }
+        // templateSpEL 只求值一次，缓存键和生成文件使用同一个结果
+        Map<String, String> variables = variables(webRequest);
+        Object template = template(returnType, responseExcel, variables);
+        ExcelExportCache.Key cacheKey = exportCacheKey(returnValue, returnType, variables, template, responseExcel, processor);
+        if (Objects.nonNull(cacheKey) && cached(webRequest, responseExcel, exportCache.get(cacheKey))) {
+            return;
+        }
+        // 需要缓存时先写入临时存储，得到完整的字节
+        boolean direct = (responseExcel.direct() || properties.getWrite().isDirect()) && Objects.isNull(cacheKey);
+        boolean asyncResult = !ExcelChunks.supports(Objects.requireNonNull(returnType.getMethod()).getReturnType());
+        boolean deferred = responseExcel.deferred() || properties.getWrite().isDeferred() || asyncResult;
+        // 异步生成时临时存储不绑定请求，由导出线程释放；请求超时结束时导出线程可能还在写入
+        ExcelSpool spool = direct ? null : tempStorage.createSpool(deferred ? null : nativeRequest);
 
-            httpServletRequest.setAttribute(bindingResultKey, bindingResult);
-            for (int i = 0; i < list.size(); i++) {
-                Object target = list.get(i);
-                BeanPropertyBindingResult result = new BeanPropertyBindingResult(target, target.getClass().getName());
-                smartValidator.validate(target, result, validateGroups);
-                final int rows = i + requestExcel.headRowNumber() + 1;
-                result.getAllErrors()
-                        .stream()
-                        .map(FieldError.class::cast)
-                        .map(error ->
-                                new ExcelFieldError(
-                                        error.getObjectName(),
-                                        error.getField(),
-                                        error.getRejectedValue(),
-                                        error.isBindingFailure(),
-                                        error.getCodes(),
-                                        error.getArguments(),
-                                        excelProperty(cacheMap, target, error.getField()) + error.getDefaultMessage(),
-                                        rows,
-                                        requestExcel,
-                                        target
-                                )
-                        )
-                        .forEach(bindingResult::addError);
+        if (deferred) {
+            // 在导出线程池中生成，容器线程立即返回，生成结束后由 WebAsyncManager 完成请求
+            Callable<Exported> callable = () -> {
+                try {
+                    export(returnValue, returnType, webRequest, template, responseExcel, processor, spool, cacheKey, false);
+                } finally {
+                    if (Objects.nonNull(spool)) {
+                        spool.release();
+                    }
+                }
+                return Exported.INSTANCE;
+            };
+            WebAsyncTask<Exported> webAsyncTask = new WebAsyncTask<>(properties.getAsync().getTimeout().toMillis(), executor.export(), callable);
+            WebAsyncUtils.getAsyncManager(webRequest).startCallableProcessing(webAsyncTask, mavContainer);
+            return;
+        }
+        export(returnValue, returnType, webRequest, template, responseExcel, processor, spool, cacheKey, true);
+    }
+
+    /**
+     * &#x53EA;&#x6709;&#x8FD4;&#x56DE; List &#x4E14;&#x6CA1;&#x6709;&#x81EA;&#x5B9A;&#x4E49; Processor &#x65F6;&#x624D;&#x80FD;&#x7F13;&#x5B58;&#xFF0C;Stream / Iterator &#x8BA1;&#x7B97;&#x6458;&#x8981;&#x540E;&#x5C31;&#x4E0D;&#x80FD;&#x518D;&#x5BFC;&#x51FA;
+     */
+    private ExcelExportCache.Key exportCacheKey(Object returnValue, MethodParameter returnType, Map<String, String> variables, Object template, ResponseExcel responseExcel, Processor processor) {
+        if (!responseExcel.cache() || Objects.nonNull(processor) || !(returnValue instanceof List<?> list)) {
+            return null;
+        }
+        try {
+            ExcelMetadataCache.ResponseMetadata metadata = metadataCache.response(returnType);
+            Object key = null;
+            if (Objects.nonNull(template)) {
+                key = templateKey(template);
+                if (Objects.isNull(key)) {
+                    return null;
+                }
+            } else if (StringUtils.hasText(responseExcel.template())) {
+                key = templateKey(ResourceUtils.getFile(responseExcel.template()));
             }
-            cacheMap.clear();
-            if (requestExcel.validateThrow() && bindingResult.getErrorCount() != 0) {
-                BeanPropertyBindingResult propertyBindingResult = new BeanPropertyBindingResult(list, "bindingResult");
-                bindingResult.getAllErrors()
-                        .stream()
-                        .map(ExcelFieldError.class::cast)
-                        .filter(objectError -> Objects.equals(objectError.getRequestExcel(), requestExcel))
-                        .forEach(propertyBindingResult::addError);
-                throw new ExcelNotValidException(parameter, propertyBindingResult);
+            boolean fill = Objects.nonNull(key);
+            // 模板由请求参数决定时，参数也是缓存键的一部分
+            return new ExcelExportCache.Key(Objects.requireNonNull(returnType.getMethod()), ExcelExportCache.digest(list, fill), Objects.isNull(metadata.templateExpression()) ? Collections.emptyMap() : variables, key);
+        } catch (Exception e) {
+            log.warn("计算导出缓存键失败，不使用缓存：{}", returnType.getMethod(), e);
+            return null;
+        }
+    }
+
+    /**
+     * &#x6A21;&#x677F;&#x5728;&#x7F13;&#x5B58;&#x952E;&#x4E2D;&#x7684;&#x6807;&#x8BC6;&#xFF0C;&#x6587;&#x4EF6;&#x548C;&#x8D44;&#x6E90;&#x4FEE;&#x6539;&#x540E;&#x6807;&#x8BC6;&#x53D8;&#x5316;&#xFF1B;&#x8F93;&#x5165;&#x6D41;&#x65E0;&#x6CD5;&#x8BC6;&#x522B;&#xFF0C;&#x8FD4;&#x56DE; null &#x4E0D;&#x7F13;&#x5B58;
+     */
+    private static Object templateKey(Object template) throws IOException {
+        if (template instanceof byte[] bytes) {
+            return ExcelParseCache.digest(new ByteArrayInputStream(bytes));
+        } else if (template instanceof Path path) {
+            return templateKey(path.toFile());
+        } else if (template instanceof File file) {
+            return new ExcelTemplateCache.FileKey(file.getAbsolutePath(), file.lastModified(), file.length());
+        } else if (template instanceof Resource resource) {
+            return new ExcelTemplateCache.ResourceKey(resource.getDescription(), resource.lastModified());
+        }
+        return null;
+    }
+
+    /**
+     * @return templateSpEL &#x7684;&#x6C42;&#x503C;&#x7ED3;&#x679C;&#xFF0C;&#x6CA1;&#x6709;&#x914D;&#x7F6E;&#x65F6;&#x4E3A; null
+     */
+    private Object template(MethodParameter returnType, ResponseExcel responseExcel, Map<String, String> variables) {
+        if (!StringUtils.hasText(responseExcel.templateSpEL())) {
+            return null;
+        }
+        return evaluateTemplate(metadataCache.response(returnType), variables);
+    }
+
+    private Object evaluateTemplate(ExcelMetadataCache.ResponseMetadata metadata, Map<String, String> variables) {
+        StandardEvaluationContext standardEvaluationContext = new StandardEvaluationContext();
+        standardEvaluationContext.setBeanResolver(beanResolver);
+        variables.forEach(standardEvaluationContext::setVariable);
+        return Objects.requireNonNull(metadata.templateExpression().getValue(standardEvaluationContext));
+    }
+
+    /**
+     * &#x547D;&#x4E2D;&#x7F13;&#x5B58;&#x65F6;&#x76F4;&#x63A5;&#x5199;&#x51FA;&#x5B57;&#x8282;&#xFF0C;If-None-Match &#x5339;&#x914D;&#x65F6;&#x53EA;&#x8FD4;&#x56DE; 304
+     */
+    private boolean cached(NativeWebRequest webRequest, ResponseExcel responseExcel, ExcelExportCache.Entry entry) throws IOException {
+        if (Objects.isNull(entry)) {
+            return false;
+        }
+        if (webRequest.checkNotModified(entry.etag())) {
+            return true;
+        }
+        HttpServletResponse nativeResponse = Objects.requireNonNull(webRequest.getNativeResponse(HttpServletResponse.class));
+        prepareResponse(nativeResponse, responseExcel, entry.etag());
+        nativeResponse.setContentLength(entry.content().length);
+        nativeResponse.getOutputStream().write(entry.content());
+        return true;
+    }
+
+    /**
+     * @param spool    null &#x65F6;&#x76F4;&#x63A5;&#x5199;&#x5165;&#x54CD;&#x5E94;&#x6D41;
+     * @param sendfile &#x5F02;&#x6B65;&#x8BF7;&#x6C42;&#x4E0D;&#x80FD;&#x4F7F;&#x7528; sendfile
+     */
+    private void export(Object returnValue, MethodParameter returnType, NativeWebRequest webRequest, Object template, ResponseExcel responseExcel, Processor processor, ExcelSpool spool, ExcelExportCache.Key cacheKey, boolean sendfile) throws Exception {
+        HttpServletRequest nativeRequest = Objects.requireNonNull(webRequest.getNativeRequest(HttpServletRequest.class));
+        HttpServletResponse nativeResponse = Objects.requireNonNull(webRequest.getNativeResponse(HttpServletResponse.class));
+        if (Objects.isNull(spool)) {
+            // 不设置 Content-Length，容器使用 chunked 边生成边发送
+            prepareResponse(nativeResponse, responseExcel, null);
+            try {
+                OutputStream outputStream = nativeResponse.getOutputStream();
+                write(returnValue, returnType, template, responseExcel, processor, EasyExcel.write(outputStream).autoCloseStream(false), rows -> {
+                });
+                outputStream.flush();
+            } catch (Exception e) {
+                if (!nativeResponse.isCommitted()) {
+                    nativeResponse.reset();
+                }
+                throw e;
             }
-            if (Objects.nonNull(mavContainer)) {
-                mavContainer.addAttribute(bindingResultKey, bindingResult);
+            return;
+        }
+
+        try (spool) {
+            write(returnValue, returnType, template, responseExcel, processor, EasyExcel.write(spool).autoCloseStream(false), rows -> {
+            });
+        }
+
+        ExcelExportCache.Entry entry = null;
+        if (Objects.nonNull(cacheKey) && spool.size() <= properties.getExportCache().getMaxEntrySize().toBytes()) {
+            try (InputStream inputStream = spool.getInputStream()) {
+                entry = exportCache.put(cacheKey, inputStream.readAllBytes());
             }
         }
-        return list;
+        if (Objects.nonNull(entry) && webRequest.checkNotModified(entry.etag())) {
+            return;
+        }
+        prepareResponse(nativeResponse, responseExcel, Objects.isNull(entry) ? null : entry.etag());
+        transfer(spool, nativeRequest, nativeResponse, sendfile);
     }
 
-    @Override
-    public boolean supportsReturnType(@NonNull MethodParameter returnType) {
-        return returnType.hasMethodAnnotation(ResponseExcel.class) && List.class.isAssignableFrom(Objects.requireNonNull(returnType.getMethod()).getReturnType());
+    /**
+     * &#x540E;&#x53F0;&#x4EFB;&#x52A1;&#x5728;&#x8BF7;&#x6C42;&#x7ED3;&#x675F;&#x540E;&#x8FD0;&#x884C;&#xFF0C;&#x4E0D;&#x80FD;&#x518D;&#x4F7F;&#x7528;&#x8BF7;&#x6C42;&#x5BF9;&#x8C61;&#xFF0C;&#x9700;&#x8981;&#x7684;&#x53C2;&#x6570;&#x5148;&#x590D;&#x5236;&#x51FA;&#x6765;
+     */
+    private void submit(Object returnValue, MethodParameter returnType, NativeWebRequest webRequest, ResponseExcel responseExcel, Processor processor) throws IOException {
+        HttpServletRequest nativeRequest = Objects.requireNonNull(webRequest.getNativeRequest(HttpServletRequest.class));
+        HttpServletResponse nativeResponse = Objects.requireNonNull(webRequest.getNativeResponse(HttpServletResponse.class));
+        ExcelJobStore jobStore = applicationContext.getBean(ExcelJobStore.class);
+        ExcelJob job = new ExcelJob(UUID.randomUUID().toString(), "%s%s".formatted(responseExcel.filename(), responseExcel.suffix()), responseExcel.contentType(), ExcelJob.owner(nativeRequest));
+        Map<String, String> variables = variables(webRequest);
+        jobStore.save(job);
+        try {
+            executor.export().execute(() -> run(job, jobStore, returnValue, returnType, variables, responseExcel, processor));
+        } catch (RuntimeException e) {
+            jobStore.remove(job.getId());
+            throw e;
+        }
+
+        nativeResponse.setStatus(HttpServletResponse.SC_ACCEPTED);
+        // 没有注册任务接口时 Location 会指向 404，只在响应体中返回任务 id，由应用自己提供查询方式
+        if (properties.getJob().isEndpoint()) {
+            nativeResponse.setHeader(HttpHeaders.LOCATION, ServletUriComponentsBuilder.fromContextPath(nativeRequest)
+                    .path(properties.getJob().getPath())
+                    .pathSegment(job.getId())
+                    .toUriString());
+        }
+        nativeResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        nativeResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper().writeValue(nativeResponse.getOutputStream(), job);
     }
 
-    @Override
-    public void handleReturnValue(Object returnValue, @NonNull MethodParameter returnType, @NonNull ModelAndViewContainer mavContainer, @NonNull NativeWebRequest webRequest) throws Exception {
-        Path tempFile = createTempFile();
-        ResponseExcel responseExcel = Objects.requireNonNull(returnType.getMethodAnnotation(ResponseExcel.class));
-        Class<?> resolve = responseExcel.headClass();
-        if (resolve.equals(Void.class)) {
-            resolve = ResolvableType.forMethodReturnType(Objects.requireNonNull(returnType.getMethod())).getGeneric(0).resolve();
+    private ObjectMapper objectMapper() {
+        return applicationContext.getBeanProvider(ObjectMapper.class)
+                .getIfAvailable(() -> Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    private void run(ExcelJob job, ExcelJobStore jobStore, Object returnValue, MethodParameter returnType, Map<String, String> variables, ResponseExcel responseExcel, Processor processor) {
+        Duration retention = properties.getJob().getRetention();
+        Path file = null;
+        try {
+            job.setStatus(ExcelJob.Status.RUNNING);
+            jobStore.save(job);
+            file = tempStorage.createTempFile();
+            tempStorage.pin(file);
+            write(returnValue, returnType, template(returnType, responseExcel, variables), responseExcel, processor, EasyExcel.write(file.toFile()).autoCloseStream(true), rows -> {
+                job.addRows(rows);
+                jobStore.save(job);
+            });
+            tempStorage.commit(file);
+            job.setPath(file.toAbsolutePath().toString());
+            job.setSize(Files.size(file));
+            job.setStatus(ExcelJob.Status.COMPLETED);
+            tempStorage.deleteLater(file, retention);
+        } catch (Exception e) {
+            log.error("导出任务失败：{}", job.getId(), e);
+            job.setStatus(ExcelJob.Status.FAILED);
+            job.setError(e.getMessage());
+            if (Objects.nonNull(file)) {
+                tempStorage.delete(file);
+            }
+        } finally {
+            job.setFinishedAt(Instant.now());
+            job.setExpiresAt(job.getFinishedAt().plus(retention));
+            jobStore.save(job);
         }
-        if (Objects.isNull(resolve) && returnValue instanceof List<?> list && !list.isEmpty()) {
-            resolve = list.stream().filter(Objects::nonNull).findFirst().map(Object::getClass).orElse(null);
+    }
+
+    private static Map<String, String> variables(NativeWebRequest webRequest) {
+        Map<String, String> variables = new LinkedHashMap<>();
+        webRequest.getParameterNames().forEachRemaining(name -> variables.put(name, webRequest.getParameter(name)));
+        return variables;
+    }
+
+    private void transfer(ExcelSpool spool, HttpServletRequest nativeRequest, HttpServletResponse nativeResponse, boolean sendfile) throws IOException {
+        long size = spool.size();
+        nativeResponse.setContentLengthLong(size);
+        EasyExcelProperties.Write write = properties.getWrite();
+        if (!spool.inMemory() && sendfile && write.isSendfile() && Boolean.TRUE.equals(nativeRequest.getAttribute(SENDFILE_SUPPORT))) {
+            Path tempFile = spool.toPath();
+            // 由容器在请求结束后调用 sendfile 发送，文件需要保留到容器打开它之后
+            nativeRequest.setAttribute(SENDFILE_FILENAME, tempFile.toAbsolutePath().toString());
+            nativeRequest.setAttribute(SENDFILE_START, 0L);
+            nativeRequest.setAttribute(SENDFILE_END, size);
+            tempStorage.deleteLater(nativeRequest, tempFile, write.getSendfileRetention());
+            return;
         }
-        ExcelWriterBuilder builder = EasyExcel.write(tempFile.toFile())
-                .head(resolve)
-                .autoCloseStream(true);
+        // 响应流不是通道，FileChannel.transferTo 到包装的通道同样经过堆缓冲，这里直接复制
+        spool.transferTo(nativeResponse.getOutputStream());
+    }
+
+    /**
+     * @param etag &#x4E0D;&#x4E3A; null &#x65F6;&#x5141;&#x8BB8;&#x5BA2;&#x6237;&#x7AEF;&#x7F13;&#x5B58;&#xFF0C;&#x4F46;&#x6BCF;&#x6B21;&#x90FD;&#x8981;&#x7528; If-None-Match &#x9A8C;&#x8BC1;
+     */
+    private void prepareResponse(HttpServletResponse nativeResponse, ResponseExcel responseExcel, String etag) {
+        nativeResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        nativeResponse.setContentType(responseExcel.contentType());
+        nativeResponse.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("%s%s".formatted(responseExcel.filename(), responseExcel.suffix()), StandardCharsets.UTF_8)
+                .toString()
+        );
+        if (Objects.isNull(etag)) {
+            nativeResponse.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+            return;
+        }
+        nativeResponse.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        nativeResponse.setHeader(HttpHeaders.ETAG, etag);
+    }
+
+    private void write(Object returnValue, MethodParameter returnType, Object template, ResponseExcel responseExcel, Processor processor, ExcelWriterBuilder builder, LongConsumer progress) throws IOException {
+        ExcelMetadataCache.ResponseMetadata metadata = metadataCache.response(returnType);
+        Class<?> resolve = metadata.head();
+        ExcelChunks chunks = ExcelChunks.of(returnValue, responseExcel.batchSize());
+        List<?> first = chunks.hasNext() ? chunks.next() : Collections.emptyList();
+        if (Objects.isNull(resolve) && !first.isEmpty()) {
+            resolve = first.stream().filter(Objects::nonNull).findFirst().map(Object::getClass).orElse(null);
+        }
+        builder.head(resolve);
         Arrays.stream(responseExcel.writeHandler())
-                .map(BeanUtils::instantiateClass)
-                .peek(this::setApplicationContext)
+                .map(metadataCache::instance)
                 .forEach(builder::registerWriteHandler);
 
         converters.stream()
-                .map(BeanUtils::instantiateClass)
-                .peek(this::setApplicationContext)
+                .map(metadataCache::instance)
                 .forEach(builder::registerConverter);
 
         if (StringUtils.hasText(responseExcel.password())) {
             builder.password(responseExcel.password());
         }
-        if (StringUtils.hasText(responseExcel.template()) || StringUtils.hasText(responseExcel.templateSpEL())) {
-            if (StringUtils.hasText(responseExcel.templateSpEL())) {
-                StandardEvaluationContext standardEvaluationContext = new StandardEvaluationContext();
-                standardEvaluationContext.setBeanResolver(new BeanFactoryResolver(applicationContext));
-                StreamSupport.stream(Spliterators.spliteratorUnknownSize(webRequest.getParameterNames(), 0), false)
-                        .forEach(s -> standardEvaluationContext.setVariable(s, webRequest.getParameter(s)));
-                Path path = createTempFile();
-                try (InputStream inputStream = Objects.requireNonNull(expressionParser.parseExpression(responseExcel.templateSpEL()).getValue(standardEvaluationContext, InputStream.class))) {
-                    Files.copy(inputStream, path, StandardCopyOption.REPLACE_EXISTING);
-                }
-                builder.withTemplate(path.toFile());
+        if (StringUtils.hasText(responseExcel.template()) || Objects.nonNull(template)) {
+            if (Objects.nonNull(template)) {
+                builder.withTemplate(new ByteArrayInputStream(template(template)));
             } else {
                 try {
-                    String template = responseExcel.template();
-                    File resource = ResourceUtils.getFile(template);
-                    builder.withTemplate(resource);
+                    File resource = ResourceUtils.getFile(responseExcel.template());
+                    builder.withTemplate(new ByteArrayInputStream(template(resource)));
                 } catch (Exception e) {
                     log.error(e.getMessage(), e);
                 }
             }
 
-            try (ExcelWriter excelWriter = builder.build()) {
+            try (chunks; ExcelWriter excelWriter = builder.build()) {
                 WriteSheet writeSheet = EasyExcel.writerSheet(responseExcel.sheetIndex(), responseExcel.sheetName()).build();
-                Processor processor = getProcessor();
                 if (Objects.nonNull(processor)) {
                     processor.exec(responseExcel, excelWriter, writeSheet);
                 } else {
                     ResponseExcel.Config config = responseExcel.config();
-                    excelWriter.fill(returnValue,
-                            FillConfig
-                                    .builder()
-                                    .direction(config.direction())
-                                    .forceNewRow(config.forceNewRow())
-                                    .build(),
-                            writeSheet
-                    );
+                    FillConfig fillConfig = FillConfig
+                            .builder()
+                            .direction(config.direction())
+                            .forceNewRow(config.forceNewRow())
+                            .build();
+                    if (returnValue instanceof List<?>) {
+                        excelWriter.fill(returnValue, fillConfig, writeSheet);
+                        progress.accept(first.size());
+                    } else {
+                        excelWriter.fill(first, fillConfig, writeSheet);
+                        progress.accept(first.size());
+                        chunks.forEachRemaining(chunk -> {
+                            excelWriter.fill(chunk, fillConfig, writeSheet);
+                            progress.accept(chunk.size());
+                        });
+                    }
                 }
                 excelWriter.finish();
             }
         } else {
-            try (ExcelWriter excelWriter = builder.build()) {
-                excelWriter.write((List<?>) returnValue, EasyExcel.writerSheet(responseExcel.sheetIndex(), responseExcel.sheetName()).build());
+            try (chunks; ExcelWriter excelWriter = builder.build()) {
+                WriteSheet writeSheet = EasyExcel.writerSheet(responseExcel.sheetIndex(), responseExcel.sheetName()).build();
+                excelWriter.write(first, writeSheet);
+                progress.accept(first.size());
+                chunks.forEachRemaining(chunk -> {
+                    excelWriter.write(chunk, writeSheet);
+                    progress.accept(chunk.size());
+                });
                 excelWriter.finish();
             }
         }
-
-        HttpServletResponse nativeResponse = Objects.requireNonNull(webRequest.getNativeResponse(HttpServletResponse.class));
-
-        nativeResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
-        nativeResponse.setContentType(responseExcel.contentType());
-        nativeResponse.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
-                .filename("%s%s".formatted(responseExcel.filename(), responseExcel.suffix()), StandardCharsets.UTF_8)
-                .toString()
-        );
-        nativeResponse.setContentLengthLong(Files.size(tempFile));
-        nativeResponse.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
-        mavContainer.setRequestHandled(true);
-        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(tempFile));
-             OutputStream outputStream = new BufferedOutputStream(nativeResponse.getOutputStream())
-        ) {
-            StreamUtils.copy(inputStream, outputStream);
-        }
     }
 
-    private void setApplicationContext(Object o) {
-        if (o instanceof ApplicationContextAware applicationContextAware) {
-            applicationContextAware.setApplicationContext(applicationContext);
+    /**
+     * SpEL &#x53EF;&#x4EE5;&#x8FD4;&#x56DE; InputStream&#x3001;byte[]&#x3001;File&#x3001;Path &#x6216; Resource&#xFF0C;&#x9664; InputStream &#x5916;&#x90FD;&#x6309;&#x6A21;&#x677F;&#x6765;&#x6E90;&#x7F13;&#x5B58;
+     */
+    private byte[] template(Object template) throws IOException {
+        if (template instanceof byte[] bytes) {
+            return bytes;
+        } else if (template instanceof InputStream inputStream) {
+            try (inputStream) {
+                return inputStream.readAllBytes();
+            }
+        } else if (template instanceof Path path) {
+            return template(path.toFile());
+        } else if (template instanceof File file) {
+            ExcelTemplateCache.FileKey key = new ExcelTemplateCache.FileKey(file.getAbsolutePath(), file.lastModified(), file.length());
+            return templateCache.get(key, () -> Files.readAllBytes(file.toPath()));
+        } else if (template instanceof Resource resource) {
+            ExcelTemplateCache.ResourceKey key = new ExcelTemplateCache.ResourceKey(resource.getDescription(), resource.lastModified());
+            return templateCache.get(key, () -> {
+                try (InputStream inputStream = resource.getInputStream()) {
+                    return inputStream.readAllBytes();
+                }
+            });
         }
+        throw new IllegalArgumentException("不支持的模板类型：" + template.getClass());
     }
 
-    private Path createTempFile() throws IOException {
-        Path tempFile = Files.createTempFile("", ".tmp");
-        tempFiles.get().add(tempFile);
-        log.debug("创建临时文件：{}", tempFile);
-        return tempFile;
-    }
-
-    @Override
-    public void onApplicationEvent(@NonNull RequestHandledEvent event) {
-        try {
-            List<Path> paths = tempFiles.get();
-            for (Path path : paths) {
-                if (Files.deleteIfExists(path)) {
-                    log.debug("删除临时文件：{}", path);
-                }
-            }
-            paths.clear();
-            tempFiles.remove();
-        } catch (Exception ignored) {
-        }
+    @FunctionalInterface
+    private interface ExcelSource {
+        void apply(ExcelReaderBuilder builder) throws IOException;
     }
 
     @FunctionalInterface
@@ -381,5 +807,10 @@ public class ExcelRequestResponseResolverHandler implements HandlerMethodArgumen
         void exec(ResponseExcel responseExcel, ExcelWriter excelWriter, WriteSheet writeSheet);
     }
 
-
+    /**
+     * &#x5F02;&#x6B65;&#x5BFC;&#x51FA;&#x5B8C;&#x6210;&#x540E;&#x7684;&#x7ED3;&#x679C;&#xFF0C;&#x91CD;&#x65B0;&#x5206;&#x6D3E;&#x65F6;&#x7531;&#x8FD9;&#x4E2A;&#x5904;&#x7406;&#x5668;&#x8BC6;&#x522B;&#x5E76;&#x7ED3;&#x675F;&#x8BF7;&#x6C42;
+     */
+    private enum Exported {
+        INSTANCE
+    }
 }
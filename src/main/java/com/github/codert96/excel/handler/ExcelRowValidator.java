@@ -0,0 +1,191 @@
+package com.github.codert96.excel.handler;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+import com.alibaba.excel.exception.ExcelAnalysisStopException;
+import com.github.codert96.excel.annotations.RequestExcel;
+import com.github.codert96.excel.bean.ExcelFieldError;
+import com.github.codert96.excel.exceptions.ExcelNotValidException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.SmartValidator;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RequiredArgsConstructor
+class ExcelRowValidator {
+    // 按类缓存表头名，使用软引用，不阻止热部署后旧的类被卸载
+    private static final Map<Class<?>, Map<String, String>> CACHE_MAP = new ConcurrentReferenceHashMap<>();
+    private static final int MIN_CHUNK_SIZE = 256;
+    private final SmartValidator smartValidator;
+    private final MethodParameter parameter;
+    private final RequestExcel requestExcel;
+    private final BindingResult bindingResult;
+    private final int maxErrors;
+    private final AtomicInteger errorCount = new AtomicInteger();
+
+    private static String excelProperty(Map<Class<?>, Map<String, String>> map, Object o, String field) {
+        return map.computeIfAbsent(o.getClass(), type -> new ConcurrentHashMap<>()).computeIfAbsent(field, s -> {
+            try {
+                Field declaredField = o.getClass().getDeclaredField(field);
+                ExcelProperty property = declaredField.getAnnotation(ExcelProperty.class);
+                String cell = "";
+                if (Objects.nonNull(property)) {
+                    String[] value = property.value();
+                    if (value.length != 0) {
+                        cell = value[value.length - 1];
+                    }
+                }
+                return cell;
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    /**
+     * @param index &#x4ECE; 0 &#x5F00;&#x59CB;&#x7684;&#x6570;&#x636E;&#x884C;&#x5E8F;&#x53F7;
+     * @return &#x8FD9;&#x4E00;&#x884C;&#x6CA1;&#x6709;&#x9519;&#x8BEF;
+     */
+    boolean validate(Object target, int index) {
+        List<ExcelFieldError> errors = errors(target, index);
+        errorCount.addAndGet(errors.size());
+        errors.forEach(bindingResult::addError);
+        return errors.isEmpty();
+    }
+
+    /**
+     * &#x89E3;&#x6790;&#x8FC7;&#x7A0B;&#x4E2D;&#x9010;&#x884C;&#x6821;&#x9A8C;&#xFF0C;&#x8FBE;&#x5230;&#x9519;&#x8BEF;&#x4E0A;&#x9650;&#x65F6;&#x505C;&#x6B62;&#x8BFB;&#x53D6;
+     *
+     * @return &#x8FD9;&#x4E00;&#x884C;&#x6CA1;&#x6709;&#x9519;&#x8BEF;
+     */
+    boolean validateOrStop(Object target, int index) {
+        boolean valid = validate(target, index);
+        if (exhausted()) {
+            throw new ExcelAnalysisStopException();
+        }
+        return valid;
+    }
+
+    /**
+     * &#x6821;&#x9A8C;&#x5931;&#x8D25;&#x65F6;&#x6700;&#x7EC8;&#x4F1A;&#x629B;&#x51FA; ExcelNotValidException
+     */
+    boolean throwing() {
+        return requestExcel.validateThrow() || requestExcel.maxErrors() > 0;
+    }
+
+    /**
+     * &#x8FBE;&#x5230; maxErrors &#x4E14;&#x6821;&#x9A8C;&#x5931;&#x8D25;&#x8981;&#x629B;&#x5F02;&#x5E38;&#x65F6;&#xFF0C;&#x5269;&#x4F59;&#x884C;&#x4E0D;&#x518D;&#x6821;&#x9A8C;
+     */
+    boolean exhausted() {
+        return throwing() && errorCount.get() >= maxErrors();
+    }
+
+    private int maxErrors() {
+        return requestExcel.maxErrors() > 0 ? requestExcel.maxErrors() : maxErrors;
+    }
+
+    /**
+     * &#x548C;&#x8FB9;&#x89E3;&#x6790;&#x8FB9;&#x6821;&#x9A8C;&#x7ED3;&#x679C;&#x4E00;&#x81F4;&#xFF1A;&#x8FBE;&#x5230;&#x9519;&#x8BEF;&#x4E0A;&#x9650;&#x65F6;&#x4E22;&#x5F03;&#x540E;&#x9762;&#x7684;&#x884C;
+     */
+    void validateOrStop(List<?> list) {
+        for (int i = 0; i < list.size(); i++) {
+            validate(list.get(i), i);
+            if (exhausted()) {
+                list.subList(i + 1, list.size()).clear();
+                return;
+            }
+        }
+    }
+
+    void validate(List<?> list) {
+        for (int i = 0; i < list.size() && !exhausted(); i++) {
+            validate(list.get(i), i);
+        }
+    }
+
+    /**
+     * &#x5206;&#x5757;&#x5E76;&#x884C;&#x6821;&#x9A8C;&#xFF0C;&#x9519;&#x8BEF;&#x6309;&#x884C;&#x987A;&#x5E8F;&#x5408;&#x5E76;&#x5230; BindingResult
+     */
+    void validate(List<?> list, ExecutorService executorService, int parallelism) throws Exception {
+        int chunkSize = Math.max(list.size() / (parallelism * 4) + 1, MIN_CHUNK_SIZE);
+        List<Future<List<ExcelFieldError>>> futures = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += chunkSize) {
+            final int start = from;
+            final int end = Math.min(from + chunkSize, list.size());
+            futures.add(executorService.submit(() -> {
+                List<ExcelFieldError> errors = new ArrayList<>();
+                for (int i = start; i < end && !exhausted(); i++) {
+                    List<ExcelFieldError> rowErrors = errors(list.get(i), i);
+                    errorCount.addAndGet(rowErrors.size());
+                    errors.addAll(rowErrors);
+                }
+                return errors;
+            }));
+        }
+        try {
+            int added = 0;
+            for (Future<List<ExcelFieldError>> future : futures) {
+                for (ExcelFieldError error : future.get()) {
+                    if (requestExcel.validateThrow() && added >= maxErrors()) {
+                        return;
+                    }
+                    bindingResult.addError(error);
+                    added++;
+                }
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private List<ExcelFieldError> errors(Object target, int index) {
+        BeanPropertyBindingResult result = new BeanPropertyBindingResult(target, target.getClass().getName());
+        smartValidator.validate(target, result, (Object[]) requestExcel.validateGroups());
+        if (!result.hasErrors()) {
+            return Collections.emptyList();
+        }
+        final int rows = index + requestExcel.headRowNumber() + 1;
+        return result.getAllErrors()
+                .stream()
+                .map(FieldError.class::cast)
+                .map(error ->
+                        new ExcelFieldError(
+                                error.getObjectName(),
+                                error.getField(),
+                                error.getRejectedValue(),
+                                error.isBindingFailure(),
+                                error.getCodes(),
+                                error.getArguments(),
+                                excelProperty(CACHE_MAP, target, error.getField()) + error.getDefaultMessage(),
+                                rows,
+                                requestExcel,
+                                target
+                        )
+                )
+                .toList();
+    }
+
+    void check(Object target) throws ExcelNotValidException {
+        if ((requestExcel.validateThrow() || exhausted()) && errorCount.get() != 0) {
+            BeanPropertyBindingResult propertyBindingResult = new BeanPropertyBindingResult(target, "bindingResult");
+            bindingResult.getAllErrors()
+                    .stream()
+                    .map(ExcelFieldError.class::cast)
+                    .filter(objectError -> Objects.equals(objectError.getRequestExcel(), requestExcel))
+                    .forEach(propertyBindingResult::addError);
+            throw new ExcelNotValidException(parameter, propertyBindingResult);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.codert96.excel.handler;
+
+import com.github.codert96.excel.config.EasyExcelProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * &#x6A21;&#x677F;&#x5185;&#x5BB9;&#x7F13;&#x5B58;&#xFF0C;&#x6309;&#x6700;&#x8FD1;&#x6700;&#x5C11;&#x4F7F;&#x7528;&#x6DD8;&#x6C70;&#xFF0C;&#x540C;&#x65F6;&#x9650;&#x5236;&#x6761;&#x6570;&#x548C;&#x603B;&#x5B57;&#x8282;&#x6570;
+ */
+@Slf4j
+@RequiredArgsConstructor
+class ExcelTemplateCache {
+    private final EasyExcelProperties.Template properties;
+    private final LinkedHashMap<Object, byte[]> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    byte[] get(Object key, Loader loader) throws IOException {
+        if (!properties.isCacheEnabled()) {
+            return loader.load();
+        }
+        synchronized (this) {
+            byte[] value = cache.get(key);
+            if (Objects.nonNull(value)) {
+                return value;
+            }
+        }
+        byte[] value = loader.load();
+        if (value.length <= properties.getMaxTemplateSize().toBytes()) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    private synchronized void put(Object key, byte[] value) {
+        byte[] old = cache.put(key, value);
+        if (Objects.nonNull(old)) {
+            bytes -= old.length;
+        }
+        bytes += value.length;
+        Iterator<Map.Entry<Object, byte[]>> iterator = cache.entrySet().iterator();
+        while (iterator.hasNext() && (cache.size() > properties.getMaxEntries() || bytes > properties.getMaxSize().toBytes())) {
+            Map.Entry<Object, byte[]> eldest = iterator.next();
+            bytes -= eldest.getValue().length;
+            iterator.remove();
+            log.debug("移除模板缓存：{}", eldest.getKey());
+        }
+    }
+
+    @FunctionalInterface
+    interface Loader {
+        byte[] load() throws IOException;
+    }
+
+    record FileKey(String path, long lastModified, long length) {
+    }
+
+    record ResourceKey(String description, long lastModified) {
+    }
+}
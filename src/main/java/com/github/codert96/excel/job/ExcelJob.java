@@ -0,0 +1,74 @@
+package com.github.codert96.excel.job;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.security.Principal;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * &#x540E;&#x53F0;&#x5BFC;&#x51FA;&#x4EFB;&#x52A1;&#x7684;&#x72B6;&#x6001;&#xFF0C;&#x7ED3;&#x679C;&#x6587;&#x4EF6;&#x4FDD;&#x5B58;&#x5728;&#x672C;&#x5730;&#x4E34;&#x65F6;&#x76EE;&#x5F55;&#xFF1B;&#x72B6;&#x6001;&#x7531;&#x5BFC;&#x51FA;&#x7EBF;&#x7A0B;&#x5199;&#x5165;&#xFF0C;&#x8BF7;&#x6C42;&#x7EBF;&#x7A0B;&#x8BFB;&#x53D6;
+ */
+@Data
+@NoArgsConstructor
+public class ExcelJob implements Serializable {
+    private String id;
+    private volatile Status status = Status.PENDING;
+    private String filename;
+    private String contentType;
+    private volatile long rows;
+    private volatile long size;
+    private volatile String error;
+    private Instant createdAt;
+    private volatile Instant finishedAt;
+    private volatile Instant expiresAt;
+    @JsonIgnore
+    private volatile String path;
+    /**
+     * &#x63D0;&#x4EA4;&#x4EFB;&#x52A1;&#x7684;&#x7528;&#x6237;&#x6216;&#x4F1A;&#x8BDD;&#xFF0C;&#x53EA;&#x6709;&#x540C;&#x4E00;&#x4E2A;&#x7528;&#x6237;&#x6216;&#x4F1A;&#x8BDD;&#x53EF;&#x4EE5;&#x67E5;&#x8BE2;&#x548C;&#x4E0B;&#x8F7D;
+     */
+    @JsonIgnore
+    private String owner;
+
+    public ExcelJob(String id, String filename, String contentType, String owner) {
+        this.id = id;
+        this.filename = filename;
+        this.contentType = contentType;
+        this.owner = owner;
+        this.createdAt = Instant.now();
+    }
+
+    /**
+     * &#x767B;&#x5F55;&#x7528;&#x6237;&#x540D;&#xFF0C;&#x672A;&#x767B;&#x5F55;&#x65F6;&#x4E3A;&#x5DF2;&#x6709;&#x4F1A;&#x8BDD;&#x7684; id&#xFF0C;&#x90FD;&#x6CA1;&#x6709;&#x65F6;&#x4E3A; null
+     */
+    public static String owner(HttpServletRequest request) {
+        return Optional.ofNullable(request.getUserPrincipal())
+                .map(Principal::getName)
+                .or(() -> Optional.ofNullable(request.getSession(false)).map(HttpSession::getId))
+                .orElse(null);
+    }
+
+    @JsonIgnore
+    public boolean isOwnedBy(HttpServletRequest request) {
+        return Objects.equals(owner, owner(request));
+    }
+
+    public synchronized void addRows(long count) {
+        rows += count;
+    }
+
+    @JsonIgnore
+    public boolean isExpired() {
+        return Objects.nonNull(expiresAt) && Instant.now().isAfter(expiresAt);
+    }
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.codert96.excel.job;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * &#x67E5;&#x8BE2;&#x540E;&#x53F0;&#x5BFC;&#x51FA;&#x4EFB;&#x52A1;&#x8FDB;&#x5EA6;&#x548C;&#x4E0B;&#x8F7D;&#x7ED3;&#x679C;&#xFF0C;&#x4E0B;&#x8F7D;&#x652F;&#x6301; Range &#x65AD;&#x70B9;&#x7EED;&#x4F20;&#xFF1B;&#x4E0D;&#x662F;&#x63D0;&#x4EA4;&#x8005;&#x7684;&#x8BF7;&#x6C42;&#x6309;&#x4EFB;&#x52A1;&#x4E0D;&#x5B58;&#x5728;&#x5904;&#x7406;
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("${easyexcel.job.path:/excel/jobs}")
+public class ExcelJobController {
+    private final ExcelJobStore jobStore;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ExcelJob> status(@PathVariable("id") String id, HttpServletRequest request) {
+        return ResponseEntity.of(find(id, request));
+    }
+
+    @GetMapping("/{id}/file")
+    public ResponseEntity<Resource> download(@PathVariable("id") String id, HttpServletRequest request) {
+        Optional<ExcelJob> optional = find(id, request);
+        if (optional.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        ExcelJob job = optional.get();
+        if (job.getStatus() != ExcelJob.Status.COMPLETED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        FileSystemResource resource = new FileSystemResource(job.getPath());
+        if (!resource.exists()) {
+            return ResponseEntity.notFound().build();
+        }
+        // Resource 响应体由 Spring 按 Range 请求头返回 206 分段内容
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(job.getContentType()))
+                .eTag(job.getId())
+                .lastModified(job.getFinishedAt())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(job.getFilename(), StandardCharsets.UTF_8)
+                        .toString())
+                .body(resource);
+    }
+
+    private Optional<ExcelJob> find(String id, HttpServletRequest request) {
+        return jobStore.find(id).filter(job -> job.isOwnedBy(request));
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.codert96.excel.job;
+
+import java.util.Optional;
+
+/**
+ * &#x4FDD;&#x5B58;&#x540E;&#x53F0;&#x5BFC;&#x51FA;&#x4EFB;&#x52A1;&#x72B6;&#x6001;&#xFF0C;&#x58F0;&#x660E;&#x540C;&#x7C7B;&#x578B;&#x7684; Bean &#x53EF;&#x4EE5;&#x66FF;&#x6362;&#x9ED8;&#x8BA4;&#x7684;&#x5185;&#x5B58;&#x5B9E;&#x73B0;
+ */
+public interface ExcelJobStore {
+    /**
+     * &#x72B6;&#x6001;&#x6216;&#x8FDB;&#x5EA6;&#x53D8;&#x5316;&#x65F6;&#x90FD;&#x4F1A;&#x8C03;&#x7528;
+     */
+    void save(ExcelJob job);
+
+    Optional<ExcelJob> find(String id);
+
+    void remove(String id);
+}
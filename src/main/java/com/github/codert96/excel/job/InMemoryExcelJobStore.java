@@ -0,0 +1,26 @@
+package com.github.codert96.excel.job;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryExcelJobStore implements ExcelJobStore {
+    private final Map<String, ExcelJob> jobs = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(ExcelJob job) {
+        if (jobs.put(job.getId(), job) == null) {
+            jobs.values().removeIf(ExcelJob::isExpired);
+        }
+    }
+
+    @Override
+    public Optional<ExcelJob> find(String id) {
+        return Optional.ofNullable(jobs.get(id)).filter(job -> !job.isExpired());
+    }
+
+    @Override
+    public void remove(String id) {
+        jobs.remove(id);
+    }
+}
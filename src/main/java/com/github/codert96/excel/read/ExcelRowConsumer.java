@@ -0,0 +1,11 @@
+package com.github.codert96.excel.read;
+
+@FunctionalInterface
+public interface ExcelRowConsumer<T> {
+
+    /**
+     * @param row   &#x5F53;&#x524D;&#x884C;
+     * @param index &#x4ECE; 0 &#x5F00;&#x59CB;&#x7684;&#x6570;&#x636E;&#x884C;&#x5E8F;&#x53F7;
+     */
+    void accept(T row, int index) throws Exception;
+}
@@ -0,0 +1,33 @@
+package com.github.codert96.excel.read;
+
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.exception.ExcelAnalysisException;
+import com.alibaba.excel.read.listener.ReadListener;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ExcelRowListener<T> implements ReadListener<T> {
+    private final ExcelRowConsumer<? super T> consumer;
+    private int index;
+
+    @Override
+    public void invoke(T data, AnalysisContext context) {
+        try {
+            consumer.accept(data, index++);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ConsumerException(e);
+        }
+    }
+
+    @Override
+    public void doAfterAllAnalysed(AnalysisContext context) {
+    }
+
+    static class ConsumerException extends ExcelAnalysisException {
+        ConsumerException(Exception cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.github.codert96.excel.read;
+
+import com.alibaba.excel.exception.ExcelAnalysisStopException;
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * &#x9010;&#x884C;&#x8BFB;&#x53D6;&#xFF0C;&#x89E3;&#x6790;&#x4E00;&#x884C;&#x4EA4;&#x4ED8;&#x4E00;&#x884C;&#xFF0C;&#x4E0D;&#x5728;&#x5185;&#x5B58;&#x4E2D;&#x4FDD;&#x7559;&#x6574;&#x4E2A;&#x6587;&#x4EF6;&#x3002;
+ * &#x5206;&#x6279;&#x548C;&#x8FED;&#x4EE3;&#x5668;&#x8BFB;&#x53D6;&#x5728; executor &#x4E2D;&#x89E3;&#x6790;&#xFF0C;&#x89E3;&#x6790;&#x4EFB;&#x52A1;&#x5728;&#x961F;&#x5217;&#x6EE1;&#x65F6;&#x7B49;&#x5F85;&#x8C03;&#x7528;&#x65B9;&#xFF0C;executor &#x4E0D;&#x80FD;&#x5728;&#x8C03;&#x7528;&#x7EBF;&#x7A0B;&#x4E0A;&#x8FD0;&#x884C;&#x4EFB;&#x52A1;
+ */
+@AllArgsConstructor
+public class ExcelRowReader<T> implements Iterable<T>, Closeable {
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    public static final int DEFAULT_QUEUE_CAPACITY = 2;
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(10);
+    private static volatile Executor defaultExecutor;
+
+    private final Source<T> source;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final Executor executor;
+    /**
+     * &#x7B49;&#x5F85;&#x4E0B;&#x4E00;&#x6279;&#x7684;&#x6700;&#x957F;&#x65F6;&#x95F4;&#xFF0C;&#x8D85;&#x8FC7;&#x65F6;&#x505C;&#x6B62;&#x89E3;&#x6790;&#x5E76;&#x629B;&#x51FA; TimeoutException
+     */
+    private final Duration timeout;
+    private final List<BatchIterator> iterators = new CopyOnWriteArrayList<>();
+
+    public ExcelRowReader(Source<T> source) {
+        this(source, DEFAULT_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public ExcelRowReader(Source<T> source, int batchSize, int queueCapacity) {
+        this(source, batchSize, queueCapacity, defaultExecutor());
+    }
+
+    public ExcelRowReader(Source<T> source, int batchSize, int queueCapacity, Executor executor) {
+        this(source, batchSize, queueCapacity, executor, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * &#x6CA1;&#x6709;&#x6307;&#x5B9A; executor &#x65F6;&#x5171;&#x7528;&#x7684;&#x6709;&#x754C;&#x7EBF;&#x7A0B;&#x6C60;&#xFF0C;&#x7EBF;&#x7A0B;&#x6570;&#x4E3A; CPU &#x6838;&#x6570;&#xFF0C;&#x6392;&#x961F;&#x7684;&#x8BFB;&#x53D6;&#x8FC7;&#x591A;&#x65F6;&#x62D2;&#x7EDD;
+     */
+    private static Executor defaultExecutor() {
+        if (defaultExecutor == null) {
+            synchronized (ExcelRowReader.class) {
+                if (defaultExecutor == null) {
+                    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("excel-reader-");
+                    threadFactory.setDaemon(true);
+                    int threads = Runtime.getRuntime().availableProcessors();
+                    ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(threads * 64), threadFactory,
+                            (runnable, executor) -> {
+                                throw new RejectedExecutionException("等待解析的逐行读取已达 " + executor.getQueue().size() + " 个，拒绝本次读取");
+                            });
+                    threadPoolExecutor.allowCoreThreadTimeOut(true);
+                    defaultExecutor = threadPoolExecutor;
+                }
+            }
+        }
+        return defaultExecutor;
+    }
+
+    @SneakyThrows
+    public void read(ExcelRowConsumer<? super T> consumer) {
+        try {
+            source.read(consumer);
+        } catch (ExcelRowListener.ConsumerException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        read((row, index) -> action.accept(row));
+    }
+
+    /**
+     * &#x8BFB;&#x53D6;&#x7EBF;&#x7A0B;&#x6BCF;&#x6EE1; batchSize &#x884C;&#x4EA4;&#x4ED8;&#x4E00;&#x6279;&#xFF0C;&#x961F;&#x5217;&#x6EE1;&#x65F6;&#x7B49;&#x5F85;&#xFF0C;&#x8C03;&#x7528;&#x7EBF;&#x7A0B;&#x5904;&#x7406;&#x4E0A;&#x4E00;&#x6279;&#x7684;&#x540C;&#x65F6;&#x89E3;&#x6790;&#x4E0B;&#x4E00;&#x6279;
+     */
+    public void forEachBatch(Consumer<? super List<T>> consumer) {
+        batches().forEachRemaining(consumer);
+    }
+
+    public Iterator<List<T>> batches() {
+        BatchIterator iterator = new BatchIterator();
+        iterators.add(iterator);
+        return iterator;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new RowIterator(batches());
+    }
+
+    public Stream<T> stream() {
+        RowSpliterator spliterator = new RowSpliterator();
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    public Stream<List<T>> batchStream() {
+        BatchIterator iterator = (BatchIterator) batches();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    @Override
+    public void close() {
+        iterators.forEach(BatchIterator::close);
+        iterators.clear();
+    }
+
+    @FunctionalInterface
+    public interface Source<T> {
+        void read(ExcelRowConsumer<? super T> consumer) throws Exception;
+    }
+
+    private class RowSpliterator extends Spliterators.AbstractSpliterator<T> {
+        private RowIterator iterator;
+        private boolean consumed;
+
+        RowSpliterator() {
+            super(Long.MAX_VALUE, ORDERED | NONNULL);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (consumed) {
+                return false;
+            }
+            if (Objects.isNull(iterator)) {
+                iterator = (RowIterator) iterator();
+            }
+            if (iterator.hasNext()) {
+                action.accept(iterator.next());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (consumed) {
+                return;
+            }
+            if (Objects.isNull(iterator)) {
+                // 没有短路操作时直接在调用线程上解析，不需要额外的线程
+                consumed = true;
+                forEach(action);
+            } else {
+                iterator.forEachRemaining(action);
+            }
+        }
+
+        void close() {
+            if (Objects.nonNull(iterator)) {
+                iterator.batches.close();
+            }
+        }
+    }
+
+    private class RowIterator implements Iterator<T> {
+        private final BatchIterator batches;
+        private Iterator<T> current = Collections.emptyIterator();
+
+        RowIterator(Iterator<List<T>> batches) {
+            this.batches = (BatchIterator) batches;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (!batches.hasNext()) {
+                    return false;
+                }
+                current = batches.next().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
+
+    private class BatchIterator implements Iterator<List<T>> {
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+        private final Object end = new Object();
+        private volatile boolean closed;
+        private List<T> current;
+        private boolean started;
+        private boolean done;
+
+        @Override
+        public boolean hasNext() {
+            if (Objects.isNull(current) && !done) {
+                if (!started) {
+                    started = true;
+                    executor.execute(this::produce);
+                }
+                current = take();
+            }
+            return Objects.nonNull(current);
+        }
+
+        @Override
+        public List<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<T> batch = current;
+            current = null;
+            return batch;
+        }
+
+        @SneakyThrows
+        @SuppressWarnings("unchecked")
+        private List<T> take() {
+            Object item = queue.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (item == null) {
+                // 解析线程迟迟没有交付，可能还在排队或卡住，停止解析并释放调用线程
+                done = true;
+                close();
+                throw new TimeoutException("超过 " + timeout + " 没有读取到下一批数据");
+            }
+            if (item == end) {
+                done = true;
+                return null;
+            }
+            if (item instanceof Throwable throwable) {
+                done = true;
+                throw throwable;
+            }
+            return (List<T>) item;
+        }
+
+        private void produce() {
+            int size = Math.max(batchSize, 1);
+            List<List<T>> holder = new ArrayList<>(List.of(new ArrayList<>(size)));
+            try {
+                read((row, index) -> {
+                    List<T> batch = holder.get(0);
+                    batch.add(row);
+                    if (batch.size() >= size) {
+                        holder.set(0, new ArrayList<>(size));
+                        put(batch);
+                    }
+                });
+                if (!holder.get(0).isEmpty()) {
+                    put(holder.get(0));
+                }
+                put(end);
+            } catch (ExcelAnalysisStopException ignored) {
+            } catch (Throwable e) {
+                try {
+                    put(e);
+                } catch (Throwable ignored) {
+                }
+            }
+        }
+
+        private void put(Object item) throws InterruptedException {
+            // 每次放入前都检查，close 清空队列后不会再继续解析
+            do {
+                if (closed) {
+                    throw new ExcelAnalysisStopException();
+                }
+            } while (!queue.offer(item, 100, TimeUnit.MILLISECONDS));
+        }
+
+        void close() {
+            closed = true;
+            queue.clear();
+        }
+    }
+}
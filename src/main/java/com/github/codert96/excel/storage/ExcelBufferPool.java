@@ -0,0 +1,37 @@
+package com.github.codert96.excel.storage;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * &#x56FA;&#x5B9A;&#x5927;&#x5C0F;&#x7684;&#x5185;&#x5B58;&#x5757;&#x6C60;&#xFF0C;&#x8D85;&#x8FC7;&#x4E0A;&#x9650;&#x7684;&#x5757;&#x4EA4;&#x7ED9; GC
+ */
+class ExcelBufferPool {
+    static final int CHUNK_SIZE = 64 * 1024;
+    private final Queue<byte[]> chunks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final int maxChunks;
+
+    ExcelBufferPool(long maxBytes) {
+        this.maxChunks = (int) Math.min(Math.max(maxBytes, 0) / CHUNK_SIZE, Integer.MAX_VALUE);
+    }
+
+    byte[] acquire() {
+        byte[] chunk = chunks.poll();
+        if (Objects.isNull(chunk)) {
+            return new byte[CHUNK_SIZE];
+        }
+        pooled.decrementAndGet();
+        return chunk;
+    }
+
+    void release(byte[] chunk) {
+        if (pooled.incrementAndGet() <= maxChunks) {
+            chunks.offer(chunk);
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+}
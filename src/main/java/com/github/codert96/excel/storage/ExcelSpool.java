@@ -0,0 +1,178 @@
+package com.github.codert96.excel.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * &#x5148;&#x5199;&#x5165;&#x5185;&#x5B58;&#xFF0C;&#x8D85;&#x8FC7;&#x9608;&#x503C;&#x540E;&#x8F6C;&#x5B58;&#x5230;&#x4E34;&#x65F6;&#x6587;&#x4EF6;&#xFF0C;&#x5173;&#x95ED;&#x540E;&#x53EF;&#x4EE5;&#x591A;&#x6B21;&#x8BFB;&#x53D6;
+ */
+public class ExcelSpool extends OutputStream {
+    private final ExcelTempStorage storage;
+    private final ExcelBufferPool bufferPool;
+    private final HttpServletRequest request;
+    private final long threshold;
+    private final List<byte[]> chunks = new ArrayList<>();
+    private long size;
+    private Path path;
+    private OutputStream fileStream;
+    private boolean closed;
+
+    ExcelSpool(ExcelTempStorage storage, ExcelBufferPool bufferPool, HttpServletRequest request, long threshold) {
+        this.storage = storage;
+        this.bufferPool = bufferPool;
+        this.request = request;
+        this.threshold = threshold;
+    }
+
+    ExcelSpool(ExcelTempStorage storage, ExcelBufferPool bufferPool, HttpServletRequest request, Path path) throws IOException {
+        this(storage, bufferPool, request, 0);
+        this.path = path;
+        this.size = Files.size(path);
+        this.closed = true;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (closed) {
+            throw new IOException("Spool closed");
+        }
+        if (Objects.isNull(fileStream) && size + len > threshold) {
+            spill();
+        }
+        if (Objects.nonNull(fileStream)) {
+            fileStream.write(b, off, len);
+            size += len;
+            return;
+        }
+        while (len > 0) {
+            int position = (int) (size % ExcelBufferPool.CHUNK_SIZE);
+            if (position == 0) {
+                chunks.add(bufferPool.acquire());
+            }
+            int count = Math.min(len, ExcelBufferPool.CHUNK_SIZE - position);
+            System.arraycopy(b, off, chunks.get(chunks.size() - 1), position, count);
+            off += count;
+            len -= count;
+            size += count;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (Objects.nonNull(fileStream)) {
+            fileStream.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (Objects.nonNull(fileStream)) {
+            fileStream.close();
+            fileStream = null;
+            storage.commit(path);
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean inMemory() {
+        return Objects.isNull(path);
+    }
+
+    /**
+     * &#x9700;&#x8981;&#x6587;&#x4EF6;&#x8DEF;&#x5F84;&#x65F6;&#x628A;&#x5185;&#x5B58;&#x4E2D;&#x7684;&#x6570;&#x636E;&#x5199;&#x5165;&#x4E34;&#x65F6;&#x6587;&#x4EF6;
+     */
+    public synchronized Path toPath() throws IOException {
+        if (inMemory()) {
+            boolean wasClosed = closed;
+            closed = false;
+            spill();
+            if (wasClosed) {
+                close();
+            }
+        }
+        return path;
+    }
+
+    public InputStream getInputStream() throws IOException {
+        if (!inMemory()) {
+            return Files.newInputStream(path);
+        }
+        List<InputStream> streams = new ArrayList<>(chunks.size());
+        long remaining = size;
+        for (byte[] chunk : chunks) {
+            int length = (int) Math.min(remaining, chunk.length);
+            streams.add(new ByteArrayInputStream(chunk, 0, length));
+            remaining -= length;
+        }
+        return new SequenceInputStream(Collections.enumeration(streams));
+    }
+
+    public void transferTo(OutputStream outputStream) throws IOException {
+        if (!inMemory()) {
+            Files.copy(path, outputStream);
+            return;
+        }
+        writeChunks(outputStream);
+    }
+
+    private void writeChunks(OutputStream outputStream) throws IOException {
+        long remaining = size;
+        for (byte[] chunk : chunks) {
+            int length = (int) Math.min(remaining, chunk.length);
+            outputStream.write(chunk, 0, length);
+            remaining -= length;
+        }
+    }
+
+    private void spill() throws IOException {
+        Path file = Objects.nonNull(request) ? storage.createTempFile(request) : storage.createTempFile();
+        if (Objects.isNull(request)) {
+            // 不绑定请求的文件由 release 删除，后台清理不能提前删除
+            storage.pin(file);
+        }
+        OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(file));
+        writeChunks(outputStream);
+        releaseChunks();
+        path = file;
+        fileStream = outputStream;
+    }
+
+    private void releaseChunks() {
+        chunks.forEach(bufferPool::release);
+        chunks.clear();
+    }
+
+    /**
+     * &#x5F52;&#x8FD8;&#x5185;&#x5B58;&#x5757;&#xFF0C;&#x7ED1;&#x5B9A;&#x8BF7;&#x6C42;&#x7684;&#x4E34;&#x65F6;&#x6587;&#x4EF6;&#x8DDF;&#x968F;&#x8BF7;&#x6C42;&#x5220;&#x9664;&#xFF0C;&#x5426;&#x5219;&#x7ACB;&#x5373;&#x5220;&#x9664;
+     */
+    public synchronized void release() {
+        try {
+            close();
+        } catch (IOException ignored) {
+        }
+        releaseChunks();
+        if (Objects.nonNull(path) && Objects.isNull(request)) {
+            storage.delete(path);
+        }
+    }
+}
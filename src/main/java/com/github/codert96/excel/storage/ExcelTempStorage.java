@@ -0,0 +1,346 @@
+package com.github.codert96.excel.storage;
+
+import com.github.codert96.excel.config.EasyExcelProperties;
+import com.github.codert96.excel.exceptions.ExcelStorageException;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * &#x4E34;&#x65F6;&#x6587;&#x4EF6;&#x7BA1;&#x7406;&#xFF1A;&#x6587;&#x4EF6;&#x7ED1;&#x5B9A;&#x5230;&#x8BF7;&#x6C42;&#x800C;&#x4E0D;&#x662F;&#x7EBF;&#x7A0B;&#xFF0C;&#x8BF7;&#x6C42;&#xFF08;&#x5305;&#x62EC;&#x5F02;&#x6B65;&#x8BF7;&#x6C42;&#xFF09;&#x7ED3;&#x675F;&#x65F6;&#x5220;&#x9664;&#xFF0C;
+ * &#x9650;&#x5236;&#x603B;&#x5BB9;&#x91CF;&#xFF0C;&#x5E76;&#x5B9A;&#x65F6;&#x6E05;&#x7406;&#x9057;&#x7559;&#x7684;&#x6587;&#x4EF6;&#xFF1B;&#x76EE;&#x5F55;&#x53EA;&#x5141;&#x8BB8;&#x5F53;&#x524D;&#x7528;&#x6237;&#x8BBF;&#x95EE;
+ */
+@Slf4j
+public class ExcelTempStorage implements Closeable {
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+    private static final String REQUEST_KEY = ExcelTempStorage.class.getName() + ".files";
+    private final EasyExcelProperties.Storage properties;
+    private final Path directory;
+    private final Map<Path, Long> files = new ConcurrentHashMap<>();
+    private final Set<Path> pinned = ConcurrentHashMap.newKeySet();
+    private final Set<Path> bound = ConcurrentHashMap.newKeySet();
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final ScheduledExecutorService scheduler;
+    private final ExcelBufferPool bufferPool;
+
+    public ExcelTempStorage(EasyExcelProperties.Storage properties) {
+        this.properties = properties;
+        this.directory = properties.getDirectory().toPath().toAbsolutePath();
+        prepareDirectory();
+        this.bufferPool = new ExcelBufferPool(properties.getPoolSize().toBytes());
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("excel-cleaner-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long interval = properties.getSweepInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::sweep, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * &#x76EE;&#x5F55;&#x4E0D;&#x5B58;&#x5728;&#x65F6;&#x4EE5;&#x4EC5;&#x5F53;&#x524D;&#x7528;&#x6237;&#x53EF;&#x8BBF;&#x95EE;&#x7684;&#x6743;&#x9650;&#x521B;&#x5EFA;&#xFF1B;&#x5DF2;&#x5B58;&#x5728;&#x65F6;&#x5FC5;&#x987B;&#x662F;&#x5F53;&#x524D;&#x7528;&#x6237;&#x7684;&#x76EE;&#x5F55;&#xFF08;&#x4E0D;&#x80FD;&#x662F;&#x7B26;&#x53F7;&#x94FE;&#x63A5;&#xFF09;&#xFF0C;&#x5426;&#x5219;&#x62D2;&#x7EDD;&#x4F7F;&#x7528;
+     */
+    private synchronized void prepareDirectory() {
+        try {
+            boolean posix = directory.getFileSystem().supportedFileAttributeViews().contains("posix");
+            if (Files.notExists(directory, LinkOption.NOFOLLOW_LINKS)) {
+                Files.createDirectories(directory.getParent());
+                try {
+                    if (posix) {
+                        Files.createDirectory(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+                    } else {
+                        Files.createDirectory(directory);
+                    }
+                } catch (FileAlreadyExistsException ignored) {
+                    // 其他进程同时创建，按已存在的目录检查
+                }
+            }
+            if (!Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS)) {
+                throw new ExcelStorageException("临时文件目录不是目录或者是符号链接：%s".formatted(directory));
+            }
+            // 用新建文件的所有者作为当前用户，不依赖 user.name
+            Path probe = Files.createTempFile(directory, "owner-", ".tmp");
+            UserPrincipal user;
+            try {
+                user = Files.getOwner(probe, LinkOption.NOFOLLOW_LINKS);
+            } finally {
+                Files.deleteIfExists(probe);
+            }
+            UserPrincipal owner = Files.getOwner(directory, LinkOption.NOFOLLOW_LINKS);
+            if (!owner.equals(user)) {
+                throw new ExcelStorageException("临时文件目录 %s 属于其他用户 %s".formatted(directory, owner.getName()));
+            }
+            if (posix && !OWNER_ONLY.equals(Files.getPosixFilePermissions(directory, LinkOption.NOFOLLOW_LINKS))) {
+                Files.setPosixFilePermissions(directory, OWNER_ONLY);
+            }
+        } catch (IOException e) {
+            throw new ExcelStorageException(e);
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public long getUsedBytes() {
+        return usedBytes.get();
+    }
+
+    public long getMemoryThreshold() {
+        return properties.getMemoryThreshold().toBytes();
+    }
+
+    /**
+     * &#x5C0F;&#x4E8E; memoryThreshold &#x65F6;&#x53EA;&#x5728;&#x5185;&#x5B58;&#x4E2D;&#x4FDD;&#x5B58;&#xFF0C;&#x8D85;&#x8FC7;&#x540E;&#x624D;&#x5199;&#x5165;&#x4E34;&#x65F6;&#x6587;&#x4EF6;
+     */
+    public ExcelSpool createSpool(HttpServletRequest request) {
+        ExcelSpool spool = new ExcelSpool(this, bufferPool, request, getMemoryThreshold());
+        if (Objects.nonNull(request)) {
+            bind(request, spool, spool::release);
+        }
+        return spool;
+    }
+
+    /**
+     * &#x4F7F;&#x7528;&#x5DF2;&#x7ECF;&#x5199;&#x597D;&#x7684;&#x4E34;&#x65F6;&#x6587;&#x4EF6;
+     */
+    public ExcelSpool createSpool(HttpServletRequest request, Path path) throws IOException {
+        ExcelSpool spool = new ExcelSpool(this, bufferPool, request, path);
+        bind(request, spool, spool::release);
+        return spool;
+    }
+
+    /**
+     * &#x521B;&#x5EFA;&#x4E34;&#x65F6;&#x6587;&#x4EF6;&#x5E76;&#x7ED1;&#x5B9A;&#x5230;&#x8BF7;&#x6C42;&#xFF0C;&#x8BF7;&#x6C42;&#x7ED3;&#x675F;&#x540E;&#x5220;&#x9664;
+     */
+    public Path createTempFile(HttpServletRequest request) throws IOException {
+        Path path = createTempFile();
+        bind(request, path, () -> delete(path));
+        return path;
+    }
+
+    /**
+     * &#x521B;&#x5EFA;&#x4E0D;&#x7ED1;&#x5B9A;&#x8BF7;&#x6C42;&#x7684;&#x4E34;&#x65F6;&#x6587;&#x4EF6;&#xFF0C;&#x7531;&#x8C03;&#x7528;&#x65B9;&#x8D1F;&#x8D23;&#x5220;&#x9664;&#xFF0C;&#x5426;&#x5219;&#x8D85;&#x8FC7; maxAge &#x540E;&#x88AB;&#x540E;&#x53F0;&#x6E05;&#x7406;
+     */
+    public Path createTempFile() throws IOException {
+        awaitQuota();
+        return newTempFile();
+    }
+
+    /**
+     * &#x8D85;&#x8FC7;&#x5BB9;&#x91CF;&#x4E0A;&#x9650;&#x65F6;&#x4E0D;&#x7B49;&#x5F85;&#xFF0C;&#x76F4;&#x63A5;&#x8FD4;&#x56DE; null&#xFF0C;&#x7528;&#x4E8E;&#x53EF;&#x4EE5;&#x653E;&#x5F03;&#x7684;&#x5199;&#x5165;&#xFF0C;&#x5982;&#x7F13;&#x5B58;
+     */
+    public Path tryCreateTempFile() throws IOException {
+        long maxSize = properties.getMaxSize().toBytes();
+        if (maxSize >= 0 && usedBytes.get() >= maxSize) {
+            return null;
+        }
+        return newTempFile();
+    }
+
+    private Path newTempFile() throws IOException {
+        if (Files.notExists(directory, LinkOption.NOFOLLOW_LINKS)) {
+            prepareDirectory();
+        }
+        Path path = Files.createTempFile(directory, "", ".tmp");
+        files.put(path, 0L);
+        log.debug("创建临时文件：{}", path);
+        return path;
+    }
+
+    /**
+     * &#x6587;&#x4EF6;&#x5199;&#x5165;&#x5B8C;&#x6210;&#x540E;&#x8C03;&#x7528;&#xFF0C;&#x628A;&#x5B9E;&#x9645;&#x5927;&#x5C0F;&#x8BA1;&#x5165;&#x5BB9;&#x91CF;
+     */
+    public void commit(Path path) throws IOException {
+        long size = Files.size(path);
+        Long old = files.replace(path, size);
+        if (Objects.nonNull(old)) {
+            usedBytes.addAndGet(size - old);
+        }
+    }
+
+    /**
+     * &#x4E0D;&#x4F1A;&#x88AB;&#x540E;&#x53F0;&#x6309;&#x5E74;&#x9F84;&#x6E05;&#x7406;&#xFF0C;&#x9700;&#x8981;&#x8C03;&#x7528;&#x65B9;&#x81EA;&#x5DF1;&#x5220;&#x9664;
+     */
+    public void pin(Path path) {
+        pinned.add(path);
+    }
+
+    public void delete(Path path) {
+        pinned.remove(path);
+        bound.remove(path);
+        Long size = files.remove(path);
+        if (Objects.nonNull(size)) {
+            usedBytes.addAndGet(-size);
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+        try {
+            if (Files.deleteIfExists(path)) {
+                log.debug("删除临时文件：{}", path);
+            }
+        } catch (IOException e) {
+            log.warn("删除临时文件失败：{}", path, e);
+        }
+    }
+
+    /**
+     * &#x4ECE;&#x8BF7;&#x6C42;&#x4E0A;&#x89E3;&#x7ED1;&#xFF0C;&#x5728;&#x6307;&#x5B9A;&#x65F6;&#x95F4;&#x540E;&#x5220;&#x9664;&#xFF0C;&#x7528;&#x4E8E;&#x8BF7;&#x6C42;&#x7ED3;&#x675F;&#x540E;&#x5BB9;&#x5668;&#x8FD8;&#x9700;&#x8981;&#x8BFB;&#x53D6;&#x7684;&#x6587;&#x4EF6;
+     */
+    public void deleteLater(HttpServletRequest request, Path path, Duration delay) {
+        Map<Object, Runnable> resources = resources(request);
+        if (Objects.nonNull(resources)) {
+            resources.remove(path);
+        }
+        deleteLater(path, delay);
+    }
+
+    public void deleteLater(Path path, Duration delay) {
+        scheduler.schedule(() -> delete(path), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void awaitQuota() {
+        long maxSize = properties.getMaxSize().toBytes();
+        if (maxSize < 0 || usedBytes.get() < maxSize) {
+            return;
+        }
+        long deadline = System.nanoTime() + properties.getQuotaWait().toNanos();
+        synchronized (this) {
+            while (usedBytes.get() >= maxSize) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    throw new ExcelStorageException("临时文件已占用 %d 字节，超过上限 %d 字节".formatted(usedBytes.get(), maxSize));
+                }
+                try {
+                    wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ExcelStorageException(e);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Object, Runnable> resources(HttpServletRequest request) {
+        return (Map<Object, Runnable>) request.getAttribute(REQUEST_KEY);
+    }
+
+    private void bind(HttpServletRequest request, Object resource, Runnable release) {
+        Map<Object, Runnable> resources = resources(request);
+        if (Objects.isNull(resources)) {
+            resources = Collections.synchronizedMap(new LinkedHashMap<>());
+            request.setAttribute(REQUEST_KEY, resources);
+            onCompleted(request);
+        }
+        resources.put(resource, release);
+        if (resource instanceof Path path) {
+            bound.add(path);
+        }
+    }
+
+    private void onCompleted(HttpServletRequest request) {
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new CleanupListener(request));
+            return;
+        }
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (Objects.nonNull(requestAttributes)) {
+            requestAttributes.registerDestructionCallback(REQUEST_KEY, () -> {
+                // 请求进入异步处理时等异步结束再删除
+                if (request.isAsyncStarted()) {
+                    request.getAsyncContext().addListener(new CleanupListener(request));
+                } else {
+                    release(request);
+                }
+            }, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private void release(HttpServletRequest request) {
+        Map<Object, Runnable> resources = resources(request);
+        if (Objects.nonNull(resources)) {
+            List<Runnable> releases;
+            synchronized (resources) {
+                releases = new ArrayList<>(resources.values());
+                resources.clear();
+            }
+            releases.forEach(Runnable::run);
+        }
+    }
+
+    private void sweep() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        FileTime expired = FileTime.from(Instant.now().minus(properties.getMaxAge()));
+        try (Stream<Path> stream = Files.list(directory)) {
+            // 绑定到请求或被固定（后台任务）的文件还在使用，由它们自己删除
+            stream.filter(Files::isRegularFile)
+                    .filter(path -> !pinned.contains(path) && !bound.contains(path))
+                    .filter(path -> {
+                        try {
+                            return Files.getLastModifiedTime(path).compareTo(expired) < 0;
+                        } catch (IOException e) {
+                            return false;
+                        }
+                    })
+                    .forEach(this::delete);
+        } catch (Exception e) {
+            log.warn("清理临时文件失败：{}", directory, e);
+        }
+    }
+
+    /**
+     * &#x505C;&#x6B62;&#x540E;&#x53F0;&#x6E05;&#x7406;&#x7EBF;&#x7A0B;&#xFF0C;&#x5EF6;&#x8FDF;&#x5220;&#x9664;&#x7684;&#x6587;&#x4EF6;&#x7ACB;&#x5373;&#x5220;&#x9664;
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow().forEach(Runnable::run);
+    }
+
+    private class CleanupListener implements AsyncListener {
+        private final HttpServletRequest request;
+
+        CleanupListener(HttpServletRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(request);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(request);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(request);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.codert96.excel.write;
+
+import java.util.*;
+import java.util.stream.BaseStream;
+
+/**
+ * &#x628A; List / Stream / Iterator / ExcelPageSupplier &#x7EDF;&#x4E00;&#x6210;&#x6309;&#x56FA;&#x5B9A;&#x5927;&#x5C0F;&#x5206;&#x5757;&#x7684;&#x8FED;&#x4EE3;&#x5668;
+ */
+public final class ExcelChunks implements Iterator<List<?>>, AutoCloseable {
+    private final Object source;
+    private final Iterator<?> iterator;
+    private final ExcelPageSupplier<?> pageSupplier;
+    private final int size;
+    private List<?> next;
+    private int pageIndex;
+    private boolean done;
+
+    private ExcelChunks(Object source, int size) {
+        this.source = source;
+        this.size = Math.max(size, 1);
+        if (source instanceof ExcelPageSupplier<?> supplier) {
+            this.pageSupplier = supplier;
+            this.iterator = null;
+        } else {
+            this.pageSupplier = null;
+            if (source instanceof List<?> list) {
+                // List 已经在内存里，整体作为一块写出
+                this.iterator = Collections.singletonList(list).iterator();
+            } else if (source instanceof BaseStream<?, ?> stream) {
+                this.iterator = stream.iterator();
+            } else if (source instanceof Iterator<?> it) {
+                this.iterator = it;
+            } else if (source instanceof Iterable<?> iterable) {
+                this.iterator = iterable.iterator();
+            } else {
+                this.iterator = Collections.emptyIterator();
+            }
+        }
+    }
+
+    public static ExcelChunks of(Object source, int size) {
+        return new ExcelChunks(source, size);
+    }
+
+    public static boolean supports(Class<?> type) {
+        return List.class.isAssignableFrom(type)
+                || BaseStream.class.isAssignableFrom(type)
+                || Iterator.class.isAssignableFrom(type)
+                || ExcelPageSupplier.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (Objects.isNull(next) && !done) {
+            next = fetch();
+            done = Objects.isNull(next);
+        }
+        return Objects.nonNull(next);
+    }
+
+    @Override
+    public List<?> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<?> chunk = next;
+        next = null;
+        return chunk;
+    }
+
+    private List<?> fetch() {
+        if (Objects.nonNull(pageSupplier)) {
+            List<?> page = pageSupplier.get(pageIndex++, size);
+            return Objects.isNull(page) || page.isEmpty() ? null : page;
+        }
+        if (source instanceof List<?>) {
+            return iterator.hasNext() ? (List<?>) iterator.next() : null;
+        }
+        List<Object> chunk = new ArrayList<>(size);
+        while (chunk.size() < size && iterator.hasNext()) {
+            chunk.add(iterator.next());
+        }
+        return chunk.isEmpty() ? null : chunk;
+    }
+
+    @Override
+    public void close() {
+        if (source instanceof BaseStream<?, ?> stream) {
+            stream.close();
+        }
+    }
+}
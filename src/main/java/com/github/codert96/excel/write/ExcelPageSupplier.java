@@ -0,0 +1,14 @@
+package com.github.codert96.excel.write;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface ExcelPageSupplier<T> {
+
+    /**
+     * @param pageIndex &#x4ECE; 0 &#x5F00;&#x59CB;&#x7684;&#x9875;&#x7801;
+     * @param pageSize  ResponseExcel#batchSize
+     * @return &#x8FD4;&#x56DE; null &#x6216;&#x7A7A;&#x96C6;&#x5408;&#x65F6;&#x7ED3;&#x675F;
+     */
+    List<T> get(int pageIndex, int pageSize);
+}
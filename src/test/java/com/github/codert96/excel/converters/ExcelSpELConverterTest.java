@@ -0,0 +1,67 @@
+package com.github.codert96.excel.converters;
+
+import com.alibaba.excel.metadata.data.ReadCellData;
+import com.alibaba.excel.metadata.property.ExcelContentProperty;
+import com.github.codert96.excel.annotations.ExcelSpEL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelSpELConverterTest {
+
+    private ExcelSpELConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        StaticApplicationContext applicationContext = new StaticApplicationContext();
+        applicationContext.getBeanFactory().registerSingleton("names", new Names());
+        applicationContext.refresh();
+        converter = new ExcelSpELConverter();
+        converter.setApplicationContext(applicationContext);
+    }
+
+    @Test
+    void serializeWithBeanReference() throws NoSuchFieldException {
+        ExcelContentProperty property = property("name");
+        assertEquals("ZHANGSAN", converter.convertToExcelData("zhangsan", property, null).getStringValue());
+        assertEquals("LISI", converter.convertToExcelData("lisi", property, null).getStringValue());
+    }
+
+    /**
+     * &#x590D;&#x7528;&#x4E0A;&#x4E0B;&#x6587;&#x65F6;&#x8868;&#x8FBE;&#x5F0F;&#x8D4B;&#x503C;&#x7684;&#x53D8;&#x91CF;&#x4E0D;&#x80FD;&#x5E26;&#x5230;&#x4E0B;&#x4E00;&#x4E2A;&#x5355;&#x5143;&#x683C;
+     */
+    @Test
+    void variablesDoNotLeakBetweenCells() throws NoSuchFieldException {
+        ExcelContentProperty property = property("code");
+        for (int rowindex = 0; rowindex < 3; rowindex++) {
+            ReadCellData<?> cellData = new ReadCellData<>("c" + rowindex);
+            cellData.setRowIndex(rowindex);
+            cellData.setColumnIndex(1);
+            assertEquals("c" + rowindex + "@" + (rowindex + 1) + ":2", converter.convertToJavaData(cellData, property, null));
+        }
+    }
+
+    private static ExcelContentProperty property(String name) throws NoSuchFieldException {
+        ExcelContentProperty property = new ExcelContentProperty();
+        property.setField(Person.class.getDeclaredField(name));
+        return property;
+    }
+
+    public static class Names {
+        public String upper(String value) {
+            return value.toUpperCase(Locale.ROOT);
+        }
+    }
+
+    static class Person {
+        @ExcelSpEL(serialize = "@names.upper(#value)")
+        String name;
+
+        @ExcelSpEL(deserialize = "#seen == null ? (#seen = #value + '@' + #rowindex + ':' + #cellindex) : 'leaked'")
+        String code;
+    }
+}
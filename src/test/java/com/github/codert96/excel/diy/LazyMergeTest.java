@@ -0,0 +1,146 @@
+package com.github.codert96.excel.diy;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.ExcelWriter;
+import com.alibaba.excel.enums.CellExtraTypeEnum;
+import com.alibaba.excel.write.builder.ExcelWriterSheetBuilder;
+import com.alibaba.excel.write.merge.OnceAbsoluteMergeStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * &#x540C;&#x4E00;&#x4E2A;&#x6587;&#x4EF6;&#x5206;&#x522B;&#x5EF6;&#x8FDF;&#x586B;&#x5145;&#x548C;&#x76F4;&#x63A5;&#x586B;&#x5145;&#x5408;&#x5E76;&#x533A;&#x57DF;&#xFF0C;&#x6BCF;&#x4E2A;&#x5355;&#x5143;&#x683C;&#x8BFB;&#x5230;&#x7684;&#x5185;&#x5BB9;&#x4E00;&#x81F4;
+ */
+class LazyMergeTest {
+    private static final int ROWS = 60;
+    private static final int COLUMNS = 12;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void lazyMergeReadsLikeEagerMerge() {
+        Path file = directory.resolve("merge.xlsx");
+        write(file, new Random(11));
+
+        Workbook eager = read(file, false);
+        Workbook lazy = read(file, true);
+
+        assertEquals(eager.keySet(), lazy.keySet());
+        for (Sheet expected : eager.values()) {
+            Sheet actual = lazy.get(expected.getSheetIndex());
+            assertFalse(expected.getMerges(0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE).isEmpty());
+            for (int rowindex = 0; rowindex <= ROWS + 1; rowindex++) {
+                for (int colindex = 0; colindex <= COLUMNS + 1; colindex++) {
+                    String position = expected.getSheetName() + "!" + rowindex + ":" + colindex;
+                    Cell cell = expected.getCell(rowindex, colindex);
+                    Cell other = actual.getCell(rowindex, colindex);
+                    if (cell == null) {
+                        assertNull(other, position);
+                        continue;
+                    }
+                    assertNotNull(other, position);
+                    assertEquals(cell.getValue(), other.getValue(), position);
+                    assertEquals(cell.getLink(), other.getLink(), position);
+                    assertEquals(cell.getComment(), other.getComment(), position);
+                    assertEquals(cell.getFormula(), other.getFormula(), position);
+                    assertEquals(cell.isNumeric(), other.isNumeric(), position);
+                    if (cell.isNumeric()) {
+                        assertEquals(cell.getDouble(), other.getDouble(), position);
+                    }
+                }
+                assertEquals(expected.getRow(rowindex) == null, actual.getRow(rowindex) == null, expected.getSheetName() + "!" + rowindex);
+            }
+        }
+    }
+
+    @Test
+    void lazyMergeStoresOnlyTheReferenceCell() {
+        Path file = directory.resolve("block.xlsx");
+        List<List<Object>> data = new ArrayList<>();
+        data.add(List.of("a"));
+        data.add(List.of());
+        data.add(Arrays.asList(null, null, 3));
+        EasyExcel.write(file.toFile())
+                .registerWriteHandler(new OnceAbsoluteMergeStrategy(0, 1, 0, 2))
+                .sheet("block")
+                .doWrite(data);
+
+        Sheet eager = read(file, false).getSheetAt(0);
+        Sheet lazy = read(file, true).getSheetAt(0);
+
+        assertEquals(6, eager.rows(0, 1).mapToInt(Row::size).sum());
+        assertEquals(1, lazy.rows(0, 1).mapToInt(Row::size).sum());
+        assertEquals("a", lazy.getCell(1, 2).getValue());
+        assertEquals(3, lazy.getCell(2, 2).getInt());
+    }
+
+    private static Workbook read(Path file, boolean lazyMerge) {
+        Workbook workbook = new Workbook(lazyMerge);
+        EasyExcel.read(file.toFile(), workbook)
+                .extraRead(CellExtraTypeEnum.MERGE)
+                .headRowNumber(0)
+                .doReadAll();
+        return workbook;
+    }
+
+    /**
+     * &#x968F;&#x673A;&#x5185;&#x5BB9;&#x548C;&#x4E92;&#x4E0D;&#x91CD;&#x53E0;&#x7684;&#x5408;&#x5E76;&#x533A;&#x57DF;&#xFF0C;&#x5408;&#x5E76;&#x533A;&#x57DF;&#x5185;&#x6709;&#x7A7A;&#x5355;&#x5143;&#x683C;&#x3001;&#x6570;&#x5B57;&#x548C;&#x6574;&#x884C;&#x4E3A;&#x7A7A;&#x7684;&#x884C;
+     */
+    private static void write(Path file, Random random) {
+        try (ExcelWriter writer = EasyExcel.write(file.toFile()).build()) {
+            for (int sheetIndex = 0; sheetIndex < 2; sheetIndex++) {
+                boolean[][] used = new boolean[ROWS][COLUMNS];
+                List<List<Object>> data = new ArrayList<>();
+                for (int rowindex = 0; rowindex < ROWS; rowindex++) {
+                    List<Object> row = new ArrayList<>();
+                    for (int colindex = 0; colindex < COLUMNS; colindex++) {
+                        row.add(switch (random.nextInt(4)) {
+                            case 0 -> null;
+                            case 1 -> random.nextInt(1000) / 8.0;
+                            default -> "v" + rowindex + "_" + colindex;
+                        });
+                    }
+                    data.add(rowindex % 9 == 4 ? new ArrayList<>(Arrays.asList(new Object[COLUMNS])) : row);
+                }
+                ExcelWriterSheetBuilder sheet = EasyExcel.writerSheet(sheetIndex, "sheet" + sheetIndex).needHead(false);
+                for (int attempt = 0; attempt < 80; attempt++) {
+                    int firstRowIndex = random.nextInt(ROWS);
+                    int firstColumnIndex = random.nextInt(COLUMNS);
+                    int lastRowIndex = Math.min(ROWS - 1, firstRowIndex + random.nextInt(5));
+                    int lastColumnIndex = Math.min(COLUMNS - 1, firstColumnIndex + random.nextInt(3));
+                    if ((firstRowIndex == lastRowIndex && firstColumnIndex == lastColumnIndex)
+                            || overlaps(used, firstRowIndex, lastRowIndex, firstColumnIndex, lastColumnIndex)) {
+                        continue;
+                    }
+                    for (int rowindex = firstRowIndex; rowindex <= lastRowIndex; rowindex++) {
+                        for (int colindex = firstColumnIndex; colindex <= lastColumnIndex; colindex++) {
+                            used[rowindex][colindex] = true;
+                        }
+                    }
+                    sheet.registerWriteHandler(new OnceAbsoluteMergeStrategy(firstRowIndex, lastRowIndex, firstColumnIndex, lastColumnIndex));
+                }
+                writer.write(data, sheet.build());
+            }
+        }
+    }
+
+    private static boolean overlaps(boolean[][] used, int firstRowIndex, int lastRowIndex, int firstColumnIndex, int lastColumnIndex) {
+        for (int rowindex = firstRowIndex; rowindex <= lastRowIndex; rowindex++) {
+            for (int colindex = firstColumnIndex; colindex <= lastColumnIndex; colindex++) {
+                if (used[rowindex][colindex]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
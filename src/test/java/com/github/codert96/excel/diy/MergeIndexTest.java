@@ -0,0 +1,108 @@
+package com.github.codert96.excel.diy;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * &#x548C;&#x9010;&#x4E2A;&#x904D;&#x5386;&#x5408;&#x5E76;&#x533A;&#x57DF;&#x7684;&#x7ED3;&#x679C;&#x5BF9;&#x6BD4;
+ */
+class MergeIndexTest {
+    private static final int ROWS = 200;
+    private static final int COLUMNS = 30;
+
+    @RepeatedTest(20)
+    void findMatchesLinearScan(RepetitionInfo info) {
+        Random random = new Random(info.getCurrentRepetition());
+        List<Sheet.Merge> merges = randomMerges(random);
+        MergeIndex index = new MergeIndex(merges);
+        for (int row = -1; row <= ROWS + 1; row++) {
+            for (int column = -1; column <= COLUMNS + 1; column++) {
+                assertSame(linearFind(merges, row, column), index.find(row, column), "(" + row + ", " + column + ")");
+            }
+        }
+    }
+
+    @RepeatedTest(20)
+    void intersectingMatchesLinearScan(RepetitionInfo info) {
+        Random random = new Random(1000L + info.getCurrentRepetition());
+        List<Sheet.Merge> merges = randomMerges(random);
+        MergeIndex index = new MergeIndex(merges);
+        for (int i = 0; i < 500; i++) {
+            int firstRowIndex = random.nextInt(ROWS + 2) - 1;
+            int lastRowIndex = firstRowIndex + random.nextInt(40);
+            int firstColumnIndex = random.nextInt(COLUMNS + 2) - 1;
+            int lastColumnIndex = i % 10 == 0 ? Integer.MAX_VALUE : firstColumnIndex + random.nextInt(10);
+            List<Sheet.Merge> expected = merges.stream()
+                    .filter(m -> m.getFirstRowIndex() <= lastRowIndex && m.getLastRowIndex() >= firstRowIndex)
+                    .filter(m -> m.getFirstColumnIndex() <= lastColumnIndex && m.getLastColumnIndex() >= firstColumnIndex)
+                    .sorted(Comparator.comparingInt(Sheet.Merge::getFirstRowIndex).thenComparingInt(Sheet.Merge::getFirstColumnIndex))
+                    .toList();
+            assertEquals(expected, index.intersecting(firstRowIndex, lastRowIndex, firstColumnIndex, lastColumnIndex));
+        }
+    }
+
+    @Test
+    void emptyIndex() {
+        MergeIndex index = new MergeIndex(List.of());
+        assertNull(index.find(0, 0));
+        assertTrue(index.intersecting(0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void sheetRebuildsIndexAfterPut() {
+        Sheet sheet = new Sheet(0, "sheet");
+        assertFalse(sheet.isMergeRange(5, 5));
+        Sheet.Merge merge = sheet.put(new Sheet.Merge(4, 6, 4, 6).setValue("a"));
+        assertSame(merge, sheet.getMerge(5, 5));
+        assertEquals("a", sheet.getMergeValue(6, 4));
+        assertNull(sheet.getMerge(7, 5));
+    }
+
+    /**
+     * &#x548C; Excel &#x4E00;&#x6837;&#x4E92;&#x4E0D;&#x91CD;&#x53E0;&#xFF0C;&#x5305;&#x62EC;&#x957F;&#x6761;&#x548C;&#x5355;&#x4E2A;&#x5355;&#x5143;&#x683C;
+     */
+    private static List<Sheet.Merge> randomMerges(Random random) {
+        boolean[][] used = new boolean[ROWS][COLUMNS];
+        List<Sheet.Merge> merges = new ArrayList<>();
+        for (int attempt = 0; attempt < 400; attempt++) {
+            int firstRowIndex = random.nextInt(ROWS);
+            int firstColumnIndex = random.nextInt(COLUMNS);
+            int height = random.nextInt(10) == 0 ? random.nextInt(60) : random.nextInt(4);
+            int lastRowIndex = Math.min(ROWS - 1, firstRowIndex + height);
+            int lastColumnIndex = Math.min(COLUMNS - 1, firstColumnIndex + random.nextInt(4));
+            if (overlaps(used, firstRowIndex, lastRowIndex, firstColumnIndex, lastColumnIndex)) {
+                continue;
+            }
+            for (int row = firstRowIndex; row <= lastRowIndex; row++) {
+                for (int column = firstColumnIndex; column <= lastColumnIndex; column++) {
+                    used[row][column] = true;
+                }
+            }
+            merges.add(new Sheet.Merge(firstRowIndex, lastRowIndex, firstColumnIndex, lastColumnIndex));
+        }
+        return merges;
+    }
+
+    private static boolean overlaps(boolean[][] used, int firstRowIndex, int lastRowIndex, int firstColumnIndex, int lastColumnIndex) {
+        for (int row = firstRowIndex; row <= lastRowIndex; row++) {
+            for (int column = firstColumnIndex; column <= lastColumnIndex; column++) {
+                if (used[row][column]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Sheet.Merge linearFind(List<Sheet.Merge> merges, int row, int column) {
+        return merges.stream().filter(m -> m.isMergeRange(row, column)).findFirst().orElse(null);
+    }
+}
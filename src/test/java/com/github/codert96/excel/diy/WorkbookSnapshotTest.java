@@ -0,0 +1,225 @@
+package com.github.codert96.excel.diy;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.ExcelWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkbookSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTrip() throws IOException {
+        Workbook workbook = new Workbook();
+        Sheet first = new Sheet(0, "数据");
+        Row header = first.row(0);
+        header.cell(0).setValue("姓名").setComment("必填");
+        header.cell(1).setValue("年龄");
+        header.cell(2).setValue("生日");
+        Row row = first.row(1);
+        row.cell(0).setValue("张三").setLink("https://example.com/1");
+        row.number(1, Row.NUMBER, 35, null);
+        row.number(2, Row.DATE, 45000.5, "2023-03-15 12:00:00");
+        row.cell(3).setFormula("B2*2");
+        // 稀疏的行号和列号
+        first.row(70000).cell(16000).setValue("");
+        first.row(70001).cell(0).setValue(null);
+        first.put(new Sheet.Merge(2, 5, 0, 3).setValue("合并").setLink("l").setComment("c").setFormula("f"));
+        first.put(new Sheet.Merge(6, 6, 0, 1));
+        workbook.put(0, first);
+        workbook.put(2, new Sheet(2, null));
+
+        Workbook copy = roundTrip(workbook);
+
+        assertEquals(List.of(0, 2), List.copyOf(copy.keySet()));
+        assertContentEquals(workbook, copy);
+        assertEquals(workbook, copy);
+        Cell birthday = copy.getSheetAt(0).getCell(1, 2);
+        assertEquals("2023-03-15 12:00:00", birthday.getValue());
+        assertEquals(45000.5, birthday.getDouble());
+        assertEquals(35, copy.getSheetAt(0).getCell(1, 1).getInt());
+    }
+
+    @Test
+    void randomRoundTrip() throws IOException {
+        Random random = new Random(7);
+        Workbook workbook = new Workbook();
+        for (int sheetIndex = 0; sheetIndex < 3; sheetIndex++) {
+            Sheet sheet = new Sheet(sheetIndex, "sheet" + sheetIndex);
+            for (int i = 0; i < 2000; i++) {
+                Row row = sheet.row(random.nextInt(5000));
+                int colindex = random.nextInt(200);
+                switch (random.nextInt(5)) {
+                    case 0 -> row.number(colindex, Row.NUMBER, random.nextGaussian() * 1e6, null);
+                    case 1 -> row.number(colindex, Row.DATE, 40000 + random.nextInt(10000), "d" + i);
+                    case 2 -> row.cell(colindex).setValue("v" + random.nextInt(300)).setLink(random.nextBoolean() ? "l" + i : null);
+                    case 3 -> row.cell(colindex).setComment("c" + random.nextInt(10)).setFormula("A" + i);
+                    default -> row.cell(colindex).setValue(String.valueOf(random.nextLong()));
+                }
+            }
+            for (int i = 0; i < 50; i++) {
+                sheet.put(new Sheet.Merge(i * 10, i * 10 + random.nextInt(10), i % 7, i % 7 + random.nextInt(3)).setValue("m" + i));
+            }
+            workbook.put(sheetIndex, sheet);
+        }
+
+        assertContentEquals(workbook, roundTrip(workbook));
+    }
+
+    /**
+     * &#x4ECE; EasyExcel &#x8BFB;&#x5165;&#x7684;&#x5DE5;&#x4F5C;&#x7C3F;&#x6240;&#x6709; sheet &#x5171;&#x7528;&#x4E00;&#x4E2A;&#x5B57;&#x7B26;&#x4E32;&#x8868;&#xFF0C;&#x5FEB;&#x7167;&#x5927;&#x5C0F;&#x5E94;&#x968F; sheet &#x6570;&#x7EBF;&#x6027;&#x589E;&#x957F;
+     */
+    @Test
+    void sharedStringTableRoundTrip() throws IOException {
+        Workbook one = readExcel(1);
+        Workbook many = readExcel(10);
+
+        long single = snapshotSize(one);
+        long multiple = snapshotSize(many);
+        assertTrue(multiple < single * 10 * 1.1, single + " -> " + multiple);
+
+        many.getSheetAt(0).put(new Sheet.Merge(3000, 3001, 0, 1).setValue("只在合并区域出现"));
+        byte[] before = snapshot(many);
+        assertContentEquals(many, roundTrip(many));
+        // 写出不修改原来的工作簿
+        assertArrayEquals(before, snapshot(many));
+        assertEquals("s9_r1999_c0", roundTrip(many).getSheetAt(9).getCell(1999, 0).getValue());
+    }
+
+    private Workbook readExcel(int sheets) {
+        Path file = directory.resolve("sheets" + sheets + ".xlsx");
+        try (ExcelWriter writer = EasyExcel.write(file.toFile()).build()) {
+            for (int sheetIndex = 0; sheetIndex < sheets; sheetIndex++) {
+                List<List<Object>> data = new ArrayList<>();
+                for (int rowindex = 0; rowindex < 2000; rowindex++) {
+                    data.add(List.of("s" + sheetIndex + "_r" + rowindex + "_c0", "s" + sheetIndex + "_r" + rowindex + "_c1", rowindex));
+                }
+                writer.write(data, EasyExcel.writerSheet(sheetIndex, "sheet" + sheetIndex).needHead(false).build());
+            }
+        }
+        Workbook workbook = new Workbook();
+        EasyExcel.read(file.toFile(), workbook).headRowNumber(0).doReadAll();
+        assertEquals(sheets, workbook.size());
+        return workbook;
+    }
+
+    private static long snapshotSize(Workbook workbook) throws IOException {
+        return snapshot(workbook).length;
+    }
+
+    private static byte[] snapshot(Workbook workbook) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        workbook.writeTo(outputStream);
+        return outputStream.toByteArray();
+    }
+
+    @Test
+    void lazyMergeIsKept() throws IOException {
+        Workbook workbook = new Workbook(true);
+        Sheet sheet = new Sheet(0, "lazy", new StringTable(), true);
+        sheet.row(0).cell(0).setValue("a");
+        sheet.put(new Sheet.Merge(0, 3, 0, 2).setValue("a"));
+        workbook.put(0, sheet);
+
+        Sheet copy = roundTrip(workbook).getSheetAt(0);
+
+        assertTrue(copy.isLazyMerge());
+        assertEquals("a", copy.getCell(3, 2).getValue());
+        assertNull(copy.getCell(4, 0));
+    }
+
+    @Test
+    void openReadsSheetsOnDemand() throws IOException {
+        Workbook workbook = new Workbook();
+        for (int i = 0; i < 3; i++) {
+            Sheet sheet = new Sheet(i, "s" + i);
+            sheet.row(i).cell(i).setValue("v" + i);
+            workbook.put(i, sheet);
+        }
+        Path path = write(workbook);
+
+        try (WorkbookSnapshot snapshot = WorkbookSnapshot.open(path)) {
+            assertEquals(3, snapshot.size());
+            assertEquals(List.of("s0", "s1", "s2"), snapshot.getSheetNames());
+            assertEquals("v2", snapshot.getSheet("s2").getCell(2, 2).getValue());
+            assertEquals("v1", snapshot.getSheetAt(1).getCell(1, 1).getValue());
+            assertNull(snapshot.getSheetAt(5));
+            assertNull(snapshot.getSheet("none"));
+        }
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        Path empty = Files.createFile(directory.resolve("empty"));
+        assertThrows(IOException.class, () -> WorkbookSnapshot.open(empty));
+
+        Workbook workbook = new Workbook();
+        workbook.put(0, new Sheet(0, "s"));
+        Path path = write(workbook);
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[0] ^= 1;
+        Files.write(path, bytes);
+        assertThrows(IOException.class, () -> WorkbookSnapshot.open(path));
+    }
+
+    private Workbook roundTrip(Workbook workbook) throws IOException {
+        return Workbook.readFrom(write(workbook));
+    }
+
+    private Path write(Workbook workbook) throws IOException {
+        Path path = Files.createTempFile(directory, "workbook", ".bin");
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            workbook.writeTo(outputStream);
+        }
+        return path;
+    }
+
+    static void assertContentEquals(Workbook expected, Workbook actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Map.Entry<Integer, Sheet> entry : expected.entrySet()) {
+            assertContentEquals(entry.getValue(), actual.get(entry.getKey()));
+        }
+    }
+
+    static void assertContentEquals(Sheet expected, Sheet actual) {
+        assertEquals(expected.getSheetIndex(), actual.getSheetIndex());
+        assertEquals(expected.getSheetName(), actual.getSheetName());
+        assertEquals(expected.isLazyMerge(), actual.isLazyMerge());
+        List<Sheet.Merge> merges = expected.getMerges(0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE);
+        List<Sheet.Merge> copies = actual.getMerges(0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE);
+        assertEquals(merges, copies);
+        for (int i = 0; i < merges.size(); i++) {
+            assertEquals(merges.get(i).getValue(), copies.get(i).getValue());
+        }
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Row row : expected.values()) {
+            Row copy = actual.get(row.getRowIndex());
+            assertEquals(row.keySet(), copy.keySet(), "row " + row.getRowIndex());
+            row.cells().forEach(cell -> assertCellEquals(cell, copy.getCell(cell.getCellIndex())));
+        }
+    }
+
+    static void assertCellEquals(Cell expected, Cell actual) {
+        String position = expected.getSheetIndex() + "!" + expected.getRowIndex() + ":" + expected.getCellIndex();
+        assertEquals(expected, actual, position);
+        assertEquals(expected.getValue(), actual.getValue(), position);
+        assertEquals(expected.type(), actual.type(), position);
+        if (expected.type() != Row.TEXT) {
+            assertEquals(expected.getDouble(), actual.getDouble(), position);
+        }
+    }
+}
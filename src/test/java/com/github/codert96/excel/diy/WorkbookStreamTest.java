@@ -0,0 +1,54 @@
+package com.github.codert96.excel.diy;
+
+import com.alibaba.excel.EasyExcel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkbookStreamTest {
+    private static final int ROWS = 5000;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * &#x9010;&#x884C;&#x4EA4;&#x4ED8;&#x7684;&#x884C;&#x53EA;&#x5F15;&#x7528;&#x81EA;&#x5DF1;&#x7684;&#x6587;&#x672C;&#xFF0C;&#x4E0D;&#x968F;&#x5DF2;&#x8BFB;&#x7684;&#x884C;&#x6570;&#x589E;&#x957F;
+     */
+    @Test
+    void streamedRowsHoldOnlyTheirOwnStrings() throws IOException {
+        Path file = directory.resolve("rows.xlsx");
+        List<List<Object>> data = new ArrayList<>();
+        for (int rowindex = 0; rowindex < ROWS; rowindex++) {
+            data.add(List.of("name-" + rowindex, "address-" + rowindex, rowindex));
+        }
+        EasyExcel.write(file.toFile()).sheet("rows").needHead(false).doWrite(data);
+
+        List<Row> rows = new ArrayList<>();
+        EasyExcel.read(file.toFile(), Workbook.streamRows(rows::add)).headRowNumber(0).doReadAll();
+
+        assertEquals(ROWS, rows.size());
+        // 共用字符串表时每一行都会带上整个 sheet 的文本，有几十万字节
+        int size = serializedSize(rows.get(ROWS - 1));
+        assertTrue(size < 4096, String.valueOf(size));
+        // 回调返回后保留的行仍然可用
+        assertEquals("name-0", rows.get(0).getCell(0).getValue());
+        assertEquals("address-4999", rows.get(ROWS - 1).getCell(1).getValue());
+        assertEquals(4999, rows.get(ROWS - 1).getCell(2).getInt());
+    }
+
+    private static int serializedSize(Row row) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(outputStream)) {
+            out.writeObject(row);
+        }
+        return outputStream.size();
+    }
+}
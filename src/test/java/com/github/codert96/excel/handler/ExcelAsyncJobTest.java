@@ -0,0 +1,84 @@
+package com.github.codert96.excel.handler;
+
+import com.github.codert96.excel.annotations.ResponseExcel;
+import com.github.codert96.excel.config.EasyExcelProperties;
+import com.github.codert96.excel.job.InMemoryExcelJobStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * &#x540E;&#x53F0;&#x5BFC;&#x51FA;&#x53EA;&#x5728;&#x6CE8;&#x518C;&#x4E86;&#x4EFB;&#x52A1;&#x63A5;&#x53E3;&#x65F6;&#x8FD4;&#x56DE; Location
+ */
+class ExcelAsyncJobTest {
+
+    @TempDir
+    Path directory;
+
+    private ExcelRequestResponseResolverHandler handler;
+
+    @AfterEach
+    void tearDown() {
+        handler.destroy();
+    }
+
+    @Test
+    void locationOnlyWhenEndpointIsRegistered() throws Exception {
+        MvcResult result = submit(true);
+        assertEquals(202, result.getResponse().getStatus());
+        assertEquals("http://localhost/excel/jobs/" + id(result), result.getResponse().getHeader(HttpHeaders.LOCATION));
+    }
+
+    @Test
+    void noLocationWithoutEndpoint() throws Exception {
+        MvcResult result = submit(false);
+        assertEquals(202, result.getResponse().getStatus());
+        assertNull(result.getResponse().getHeader(HttpHeaders.LOCATION));
+        assertFalse(id(result).isEmpty());
+    }
+
+    private MvcResult submit(boolean endpoint) throws Exception {
+        EasyExcelProperties properties = new EasyExcelProperties();
+        properties.getStorage().setDirectory(directory.toFile());
+        properties.getJob().setEndpoint(endpoint);
+        StaticApplicationContext applicationContext = new StaticApplicationContext();
+        applicationContext.registerSingleton("excelJobStore", InMemoryExcelJobStore.class);
+        applicationContext.refresh();
+        LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        handler = new ExcelRequestResponseResolverHandler(applicationContext, List.of(), validator, properties);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new JobController())
+                .setCustomReturnValueHandlers(handler)
+                .build();
+        return mockMvc.perform(get("/job")).andReturn();
+    }
+
+    private static String id(MvcResult result) throws Exception {
+        String body = result.getResponse().getContentAsString();
+        return body.replaceAll("(?s).*\"id\":\"([^\"]+)\".*", "$1");
+    }
+
+    @Controller
+    static class JobController {
+
+        @GetMapping("/job")
+        @ResponseExcel(async = true)
+        public List<ExcelDeferredExportTest.Person> job() {
+            return List.of(new ExcelDeferredExportTest.Person("张三", 35));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.github.codert96.excel.handler;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.annotation.ExcelProperty;
+import com.github.codert96.excel.annotations.ResponseExcel;
+import com.github.codert96.excel.config.EasyExcelProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * &#x6CA1;&#x6709; @ResponseBody &#x7684;&#x63A7;&#x5236;&#x5668;&#x5F02;&#x6B65;&#x5BFC;&#x51FA;&#x540E;&#x91CD;&#x65B0;&#x5206;&#x6D3E;&#x4E0D;&#x80FD;&#x518D;&#x89E3;&#x6790;&#x89C6;&#x56FE;
+ */
+class ExcelDeferredExportTest {
+
+    @TempDir
+    Path directory;
+
+    private ExcelRequestResponseResolverHandler handler;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        EasyExcelProperties properties = new EasyExcelProperties();
+        properties.getStorage().setDirectory(directory.toFile());
+        LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        handler = new ExcelRequestResponseResolverHandler(new StaticApplicationContext(), List.of(), validator, properties);
+        mockMvc = MockMvcBuilders.standaloneSetup(new PersonController())
+                .setCustomReturnValueHandlers(handler)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        handler.destroy();
+    }
+
+    @Test
+    void deferredExportEndsOnRedispatch() throws Exception {
+        assertExported("/deferred");
+    }
+
+    @Test
+    void asyncResultEndsOnRedispatch() throws Exception {
+        assertExported("/future");
+    }
+
+    private void assertExported(String path) throws Exception {
+        MvcResult started = mockMvc.perform(get(path))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // CompletableFuture 先重新分派一次，得到 List 后再在导出线程池中生成
+        MvcResult result = mockMvc.perform(asyncDispatch(started)).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result.getAsyncResult(10_000);
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+
+        assertEquals(200, result.getResponse().getStatus());
+        // 响应已提交时视图解析会改用 include，再次调用控制器
+        assertNull(result.getResponse().getForwardedUrl());
+        assertNull(result.getResponse().getIncludedUrl());
+        assertNull(result.getModelAndView());
+        List<Map<Integer, String>> rows = EasyExcel.read(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))
+                .sheet()
+                .doReadSync();
+        assertEquals(2, rows.size());
+        assertEquals("李四", rows.get(1).get(0));
+    }
+
+    @Controller
+    static class PersonController {
+
+        @GetMapping("/deferred")
+        @ResponseExcel(deferred = true)
+        public List<Person> deferred() {
+            return people();
+        }
+
+        @GetMapping("/future")
+        @ResponseExcel
+        public CompletableFuture<List<Person>> future() {
+            return CompletableFuture.supplyAsync(PersonController::people);
+        }
+
+        private static List<Person> people() {
+            List<Person> people = new ArrayList<>();
+            people.add(new Person("张三", 35));
+            people.add(new Person("李四", 28));
+            return people;
+        }
+    }
+
+    public static class Person {
+
+        @ExcelProperty("姓名")
+        private String name;
+
+        @ExcelProperty("年龄")
+        private Integer age;
+
+        public Person() {
+        }
+
+        Person(String name, Integer age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Integer getAge() {
+            return age;
+        }
+
+        public void setAge(Integer age) {
+            this.age = age;
+        }
+    }
+}
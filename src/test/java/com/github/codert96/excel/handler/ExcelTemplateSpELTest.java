@@ -0,0 +1,102 @@
+package com.github.codert96.excel.handler;
+
+import com.alibaba.excel.EasyExcel;
+import com.github.codert96.excel.annotations.ResponseExcel;
+import com.github.codert96.excel.config.EasyExcelProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * templateSpEL &#x6BCF;&#x6B21;&#x8BF7;&#x6C42;&#x53EA;&#x6C42;&#x503C;&#x4E00;&#x6B21;&#xFF0C;&#x7F13;&#x5B58;&#x952E;&#x548C;&#x751F;&#x6210;&#x6587;&#x4EF6;&#x4F7F;&#x7528;&#x540C;&#x4E00;&#x4E2A;&#x7ED3;&#x679C;
+ */
+class ExcelTemplateSpELTest {
+
+    @TempDir
+    Path directory;
+
+    private ExcelRequestResponseResolverHandler handler;
+
+    private MockMvc mockMvc;
+
+    private Templates templates;
+
+    @BeforeEach
+    void setUp() {
+        File template = directory.resolve("template.xlsx").toFile();
+        EasyExcel.write(template).sheet().doWrite(List.of(List.of("{.name}", "{.age}")));
+        EasyExcelProperties properties = new EasyExcelProperties();
+        properties.getStorage().setDirectory(directory.toFile());
+        StaticApplicationContext applicationContext = new StaticApplicationContext();
+        templates = new Templates(template);
+        applicationContext.getBeanFactory().registerSingleton("templates", templates);
+        applicationContext.refresh();
+        LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        handler = new ExcelRequestResponseResolverHandler(applicationContext, List.of(), validator, properties);
+        mockMvc = MockMvcBuilders.standaloneSetup(new TemplateController())
+                .setCustomReturnValueHandlers(handler)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        handler.destroy();
+    }
+
+    @Test
+    void evaluatedOncePerRequest() throws Exception {
+        MvcResult result = mockMvc.perform(get("/template")).andReturn();
+        assertEquals(1, templates.count.get());
+        List<Map<Integer, String>> rows = EasyExcel.read(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))
+                .sheet()
+                .headRowNumber(0)
+                .doReadSync();
+        assertEquals("张三", rows.get(0).get(0));
+
+        mockMvc.perform(get("/template")).andReturn();
+        assertEquals(2, templates.count.get());
+    }
+
+    public static class Templates {
+        private final File file;
+        private final AtomicInteger count = new AtomicInteger();
+
+        Templates(File file) {
+            this.file = file;
+        }
+
+        public File get() {
+            count.incrementAndGet();
+            return file;
+        }
+    }
+
+    @Controller
+    static class TemplateController {
+
+        @GetMapping("/template")
+        @ResponseExcel(templateSpEL = "@templates.get()", cache = true)
+        public List<ExcelDeferredExportTest.Person> template() {
+            return List.of(new ExcelDeferredExportTest.Person("张三", 35));
+        }
+    }
+}
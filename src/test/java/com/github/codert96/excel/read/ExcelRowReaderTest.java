@@ -0,0 +1,60 @@
+package com.github.codert96.excel.read;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelRowReaderTest {
+
+    /**
+     * &#x89E3;&#x6790;&#x4EFB;&#x52A1;&#x4E00;&#x76F4;&#x6CA1;&#x6709;&#x8FD0;&#x884C;&#x65F6;&#x8C03;&#x7528;&#x7EBF;&#x7A0B;&#x4E0D;&#x4F1A;&#x6C38;&#x4E45;&#x963B;&#x585E;
+     */
+    @Test
+    void takeTimesOut() {
+        ExcelRowReader<Integer> reader = new ExcelRowReader<>(consumer -> consumer.accept(1, 0), 10, 2, runnable -> {
+        }, Duration.ofMillis(100));
+
+        Iterator<List<Integer>> batches = reader.batches();
+        assertThrows(TimeoutException.class, batches::hasNext);
+        assertFalse(batches.hasNext());
+    }
+
+    @Test
+    void rejectsWhenReaderPoolIsFull() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1));
+        try {
+            executor.execute(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException ignored) {
+                }
+            });
+            executor.execute(() -> {
+            });
+            ExcelRowReader<Integer> reader = new ExcelRowReader<>(consumer -> consumer.accept(1, 0), 10, 2, executor, Duration.ofSeconds(10));
+
+            assertThrows(RejectedExecutionException.class, () -> reader.batches().hasNext());
+        } finally {
+            latch.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void readsAllBatches() {
+        ExcelRowReader<Integer> reader = new ExcelRowReader<>(consumer -> {
+            for (int i = 0; i < 25; i++) {
+                consumer.accept(i, i);
+            }
+        }, 10, 2, ForkJoinPool.commonPool(), Duration.ofSeconds(10));
+
+        assertEquals(List.of(10, 10, 5), reader.batchStream().map(List::size).toList());
+    }
+}